@@ -0,0 +1,62 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+
+/**
+ * Runs the {@link LookupBenchmark}, the {@link IterationBenchmark}, the {@link EqualityBenchmark} and the
+ * {@link BuilderAllocationBenchmark} with the GC profiler and prints a table of the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}). Ideally a lookup allocates nothing at all.
+ * <p/>
+ * To keep it short, it runs small sizes of the {@link Dataset#UNIFORM} dataset only, with fewer iterations.
+ * <p/>
+ * Usage: {@code java -cp target/benchmarks.jar net.team33.basics.benchmarks.AllocationReport}
+ */
+public final class AllocationReport {
+
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+    private AllocationReport() {
+    }
+
+    @SuppressWarnings("UseOfSystemOutOrSystemErr")
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(LookupBenchmark.class.getSimpleName())
+                .include(IterationBenchmark.class.getSimpleName())
+                .include(EqualityBenchmark.class.getSimpleName())
+                .include(BuilderAllocationBenchmark.class.getSimpleName())
+                .param("size", "16", "1024")
+                .param("dataset", Dataset.UNIFORM.name())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(3)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        System.out.println();
+        System.out.println(String.format("%-60s %-24s %12s", "benchmark", "params", "bytes/op"));
+        for (final RunResult result : new Runner(options).run()) {
+            System.out.println(String.format(
+                    "%-60s %-24s %12.1f",
+                    result.getParams().getBenchmark(), Reports.params(result), allocated(result)));
+        }
+    }
+
+    private static double allocated(final RunResult result) {
+        // Depending on the JMH version the key may be prefixed (with a middle dot in older versions) ...
+        for (final Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+            if (entry.getKey().endsWith(ALLOC_RATE_NORM)) {
+                return entry.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,90 @@
+package net.team33.basics.benchmarks;
+
+import net.team33.basics.collections.BuildableList;
+import net.team33.basics.collections.Collector;
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building small collections the way client code typically does (varargs factories and fluent {@code add} chains),
+ * to reveal the allocation beyond the resulting collection itself.
+ * <p/>
+ * Intended to be run with the GC profiler ({@code -prof gc}) or by {@link AllocationReport}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BuilderAllocationBenchmark {
+
+    private String e0;
+    private String e1;
+    private String e2;
+    private String e3;
+    private BuildableList<String> buildable;
+
+    @Setup
+    public final void setup() {
+        final List<Object> elements = Dataset.UNIFORM.elements(4, Dataset.SEED);
+        e0 = (String) elements.get(0);
+        e1 = (String) elements.get(1);
+        e2 = (String) elements.get(2);
+        e3 = (String) elements.get(3);
+        buildable = BuildableList.from(e0, e1, e2, e3);
+    }
+
+    @Benchmark
+    public final Collection<String> finalListFromVarargs() {
+        return FinalList.from(e0, e1, e2, e3);
+    }
+
+    @Benchmark
+    public final Collection<String> finalSetFromVarargs() {
+        return FinalSet.from(e0, e1, e2, e3);
+    }
+
+    @Benchmark
+    public final Collection<String> finalListBuilderChain() {
+        return FinalList.<String>builder()
+                .add(e0)
+                .add(e1)
+                .add(e2)
+                .add(e3)
+                .build();
+    }
+
+    @Benchmark
+    public final Collection<String> buildableListRebuilder() {
+        return buildable.rebuilder()
+                .add(e0)
+                .remove(e1)
+                .build();
+    }
+
+    @Benchmark
+    public final Collection<String> collectorChain() {
+        return Collector.apply(new ArrayList<String>(4))
+                .add(e0)
+                .add(e1)
+                .add(e2)
+                .add(e3)
+                .subject;
+    }
+}
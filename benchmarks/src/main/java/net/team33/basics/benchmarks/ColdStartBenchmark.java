@@ -0,0 +1,86 @@
+package net.team33.basics.benchmarks;
+
+import net.team33.basics.collections.AdaptiveIndexList;
+import net.team33.basics.collections.FinalIndexList;
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+import net.team33.basics.collections.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from raw data to the first lookup of large structures as it happens on a (re-)start: each
+ * measurement is a single shot in a fresh JVM without any warm-up, so class loading, interpretation and JIT
+ * compilation are part of the result.
+ * <p/>
+ * The raw data (the elements) is prepared in advance and not part of the result.
+ * <p/>
+ * The default sizes fit into the default heap of a machine with 8 GB of memory. Larger sizes need a larger heap,
+ * that can be given from the command line, e.g.
+ * {@code java -jar target/benchmarks.jar ColdStartBenchmark -p size=10000000,50000000 -jvmArgsAppend -Xmx12g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class ColdStartBenchmark {
+
+    @Param({"100000", "1000000", "5000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "UNIFORM"})
+    public Dataset dataset;
+
+    private List<Object> elements;
+    private Object sample;
+
+    @Setup
+    public final void setup() {
+        elements = dataset.elements(size, Dataset.SEED);
+        sample = Dataset.hits(elements, 1, Dataset.SEED).get(0);
+    }
+
+    @Benchmark
+    public final boolean finalList() {
+        return FinalList.from(elements).contains(sample);
+    }
+
+    @Benchmark
+    public final boolean finalSet() {
+        return FinalSet.from(elements).contains(sample);
+    }
+
+    @Benchmark
+    public final boolean deferredFinalSet() {
+        return FinalSet.deferred(elements).contains(sample);
+    }
+
+    @Benchmark
+    public final boolean finalIndexList() {
+        return FinalIndexList.from(elements).contains(sample);
+    }
+
+    @Benchmark
+    public final boolean adaptiveIndexList() {
+        return AdaptiveIndexList.from(elements).contains(sample);
+    }
+
+    @Benchmark
+    public final boolean index() {
+        return new Index(FinalList.from(elements)).contains(sample);
+    }
+}
@@ -0,0 +1,142 @@
+package net.team33.basics.benchmarks;
+
+import com.google.common.base.Supplier;
+import net.team33.basics.collections.FinalIndexList;
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+import net.team33.basics.collections.Index;
+import net.team33.basics.lazy.AtomicInitial;
+import net.team33.basics.lazy.Initial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of reading operations on instances that are shared by all benchmark threads: lookups in
+ * a {@link FinalSet}, a {@link FinalIndexList} and an {@link Index} as well as {@code get()} of an (already
+ * computed) {@link Initial} and {@link AtomicInitial}.
+ * <p/>
+ * Run with an increasing number of threads (e.g. by {@link ScalingReport}) to see how the operations scale.
+ * Each thread takes its samples round robin from a fixed set of {@value #SAMPLES}, starting at a different offset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentReadBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final int MASK = SAMPLES - 1;
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"UNIFORM", "COLLIDING"})
+    public Dataset dataset;
+
+    private FinalSet<Object> finalSet;
+    private FinalIndexList<Object> finalIndexList;
+    private Index index;
+    private Initial<Object> initial;
+    private AtomicInitial<Object> atomicInitial;
+    private Object[] hits;
+
+    @Setup
+    public final void setup() {
+        final List<Object> elements = dataset.elements(size, Dataset.SEED);
+        finalSet = FinalSet.from(elements);
+        finalIndexList = FinalIndexList.from(elements);
+        index = new Index(FinalList.from(elements));
+        initial = new SynchronizedValue();
+        atomicInitial = new AtomicValue();
+        hits = Dataset.hits(elements, SAMPLES, Dataset.SEED).toArray();
+
+        // The lazy values are expected to be computed already, so only the path of reading them is measured ...
+        initial.get();
+        atomicInitial.get();
+    }
+
+    @Benchmark
+    public final boolean finalSetContains(final Cursor cursor) {
+        return finalSet.contains(hits[cursor.next()]);
+    }
+
+    @Benchmark
+    public final int finalIndexListIndexOf(final Cursor cursor) {
+        return finalIndexList.indexOf(hits[cursor.next()]);
+    }
+
+    @Benchmark
+    public final boolean indexContains(final Cursor cursor) {
+        return index.contains(hits[cursor.next()]);
+    }
+
+    @Benchmark
+    public final Object initialGet() {
+        return initial.get();
+    }
+
+    @Benchmark
+    public final Object atomicInitialGet() {
+        return atomicInitial.get();
+    }
+
+    /**
+     * The position of a single thread within the samples.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        @Setup
+        public final void setup(final ThreadParams params) {
+            // Threads shall not look up the same samples in lockstep ...
+            position = params.getThreadIndex() * (SAMPLES / 64 + 1);
+        }
+
+        private int next() {
+            //noinspection ValueOfIncrementOrDecrementUsed
+            return MASK & position++;
+        }
+    }
+
+    private static final class SynchronizedValue extends Initial<Object> {
+        private Supplier<Object> anchor = this;
+
+        @Override
+        protected Object getFinal() {
+            return new Object();
+        }
+
+        @Override
+        protected Supplier<Object> getAnchor() {
+            return anchor;
+        }
+
+        @Override
+        protected void setAnchor(final Supplier<Object> supplier) {
+            anchor = supplier;
+        }
+    }
+
+    private static final class AtomicValue extends AtomicInitial<Object> {
+        @Override
+        protected Object getFinal() {
+            return new Object();
+        }
+    }
+}
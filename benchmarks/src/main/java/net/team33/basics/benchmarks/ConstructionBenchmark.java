@@ -0,0 +1,50 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to build a collection of each {@link Kind} from a {@link List} of elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructionBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"UNIFORM", "SEQUENTIAL", "DUPLICATES", "COLLIDING"})
+    public Dataset dataset;
+
+    @Param
+    public Kind kind;
+
+    private List<Object> elements;
+
+    @Setup
+    public final void setup() {
+        elements = dataset.elements(size, Dataset.SEED);
+    }
+
+    @Benchmark
+    public final Collection<Object> create() {
+        return kind.create(elements);
+    }
+}
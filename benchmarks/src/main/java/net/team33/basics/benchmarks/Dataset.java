@@ -0,0 +1,261 @@
+package net.team33.basics.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Enumeration of reproducible datasets with different hash distributions to fill the collections under test.
+ * <p/>
+ * Each dataset supplies ...
+ * <ul>
+ * <li>{@link #elements(int, long) elements} to build a collection of a specific size and</li>
+ * <li>{@link #misses(int, int, long) misses} that are guaranteed not to be contained in such a collection.</li>
+ * </ul>
+ * Samples that are contained are supplied by {@link #hits(List, int, long)}.
+ * <p/>
+ * {@link #ZIPFIAN}, {@link #LONG_STRINGS} and {@link #MIXED} are expensive in memory or time for large sizes,
+ * so the benchmarks leave them out by default. They can be run on demand with smaller sizes, e.g.
+ * {@code java -jar target/benchmarks.jar LookupBenchmark -p dataset=ZIPFIAN,LONG_STRINGS,MIXED -p size=100,10000}.
+ */
+public enum Dataset {
+
+    /**
+     * Random strings of 6 to 23 characters, so the hash codes are spread uniformly.
+     */
+    UNIFORM {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            return newString(random, 6 + random.nextInt(18));
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            // CHARS doesn't contain '#' ...
+            return "#" + newString(random, 5 + random.nextInt(18));
+        }
+    },
+
+    /**
+     * The integers {@code 0 .. size-1} in ascending order, so the hash codes are dense and presorted.
+     */
+    SEQUENTIAL {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            return preceding.size();
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            return -1 - random.nextInt(Integer.MAX_VALUE);
+        }
+    },
+
+    /**
+     * Random integers out of {@code size/16} distinct values, so each value occurs about 16 times.
+     */
+    DUPLICATES {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            return random.nextInt(Math.max(1, size / 16));
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            return -1 - random.nextInt(Integer.MAX_VALUE);
+        }
+    },
+
+    /**
+     * Distinct strings, that share their hash code in groups of {@value #GROUP}.
+     * Misses share their hash code with such a group, too.
+     */
+    COLLIDING {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            final int index = preceding.size();
+            return prefix(index / GROUP) + collider(index % GROUP, "Aa", "BB");
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            // "C#".hashCode() == "Aa".hashCode() == "BB".hashCode() ...
+            // (variant GROUP-1 would consist of "BB" only and is excluded)
+            final int variant = random.nextInt(GROUP - 1);
+            return prefix(random.nextInt(Math.max(1, size / GROUP))) + collider(variant, "C#", "BB");
+        }
+    },
+
+    /**
+     * Random integers out of {@code 1 .. size}, approximately Zipf distributed (exponent {@code 1}), so that a few
+     * values occur very often while most of the values occur once or not at all.
+     */
+    ZIPFIAN {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            // For an exponent of 1 the cumulative distribution is about ln(k) / ln(size) ...
+            //noinspection NumericCastThatLosesPrecision
+            return (int) Math.pow(Math.max(2, size), random.nextDouble());
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            return -1 - random.nextInt(Integer.MAX_VALUE);
+        }
+    },
+
+    /**
+     * Strings of {@value #LONG_LENGTH} characters that differ only in their last characters, so each
+     * {@link Object#equals(Object)} compares (almost) the whole strings.
+     * <p/>
+     * Each string is built from a {@code char[]} of its own, so it shares nothing with the others. Its
+     * {@link Object#hashCode()} is expensive on the first call only, as a {@link String} caches its hash code.
+     * So the expense shows up when a structure is built (or a miss is hashed the first time), not in repeated lookups.
+     * <p/>
+     * As each element takes a few KB, the size is limited to {@value #LONG_MAX_SIZE}.
+     */
+    LONG_STRINGS {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            return newLongString(random, false);
+        }
+
+        @Override
+        public int maxSize() {
+            return LONG_MAX_SIZE;
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            return newLongString(random, true);
+        }
+    },
+
+    /**
+     * Random strings of 1 to 99 characters, half of them duplicates of preceding ones (the distribution formerly
+     * used by {@code IndexTrial}).
+     */
+    MIXED {
+        @Override
+        Object element(final Random random, final List<Object> preceding, final int size) {
+            final int index = preceding.size();
+            return (index < Math.max(1, size / 2))
+                    ? newString(random, 1 + random.nextInt(1 + (index % 99)))
+                    : preceding.get(random.nextInt(index));
+        }
+
+        @Override
+        Object miss(final Random random, final int size) {
+            // CHARS doesn't contain '#' ...
+            return "#" + newString(random, random.nextInt(99));
+        }
+    };
+
+    /**
+     * The seed the benchmarks use by default to get reproducible data.
+     */
+    public static final long SEED = 0x7EA33L;
+
+    private static final int GROUP = 64;
+    private static final int GROUP_BITS = 6;
+    private static final int LONG_LENGTH = 1024;
+    private static final int LONG_SUFFIX = 8;
+    private static final int LONG_MAX_SIZE = 100000;
+    private static final char[] CHARS =
+            "0123456789-@abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] LONG_PREFIX = newChars(new Random(SEED), LONG_LENGTH - LONG_SUFFIX);
+
+    private static char[] newChars(final Random random, final int length) {
+        final char[] chars = new char[length];
+        for (int index = 0; index < length; ++index) {
+            chars[index] = CHARS[random.nextInt(CHARS.length)];
+        }
+        return chars;
+    }
+
+    private static String newString(final Random random, final int length) {
+        return new String(newChars(random, length));
+    }
+
+    private static String newLongString(final Random random, final boolean miss) {
+        final char[] chars = Arrays.copyOf(LONG_PREFIX, LONG_LENGTH);
+        System.arraycopy(newChars(random, LONG_SUFFIX), 0, chars, LONG_PREFIX.length, LONG_SUFFIX);
+        if (miss) {
+            // CHARS doesn't contain '#' ...
+            chars[LONG_PREFIX.length] = '#';
+        }
+        return new String(chars);
+    }
+
+    private static String prefix(final int group) {
+        return Integer.toString(group, Character.MAX_RADIX) + ":";
+    }
+
+    private static String collider(final int variant, final String zero, final String one) {
+        final StringBuilder result = new StringBuilder(2 * GROUP_BITS);
+        for (int bit = 0; bit < GROUP_BITS; ++bit) {
+            result.append((0 == (variant & (1 << bit))) ? zero : one);
+        }
+        return result.toString();
+    }
+
+    abstract Object element(Random random, List<Object> preceding, int size);
+
+    abstract Object miss(Random random, int size);
+
+    /**
+     * Retrieves the maximum number of {@link #elements(int, long) elements} this dataset supplies.
+     */
+    public int maxSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Supplies {@code size} elements, reproducible by {@code seed}.
+     *
+     * @throws IllegalArgumentException if {@code size} exceeds the {@link #maxSize()} of this dataset.
+     */
+    public final List<Object> elements(final int size, final long seed) {
+        if (size > maxSize()) {
+            throw new IllegalArgumentException(
+                    String.format("size of %s is limited to %d but was %d", this, maxSize(), size));
+        }
+        final Random random = new Random(seed);
+        final List<Object> result = new ArrayList<>(size);
+        for (int index = 0; index < size; ++index) {
+            result.add(element(random, result, size));
+        }
+        return result;
+    }
+
+    /**
+     * Supplies {@code count} samples randomly taken from given {@code elements}, reproducible by {@code seed}.
+     * <p/>
+     * Strings are supplied as equal copies (as lookup keys usually are), so that {@link Object#equals(Object)}
+     * can't take a shortcut by identity.
+     */
+    public static List<Object> hits(final List<Object> elements, final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<Object> result = new ArrayList<>(count);
+        for (int index = 0; index < count; ++index) {
+            final Object element = elements.get(random.nextInt(elements.size()));
+            //noinspection RedundantStringConstructorCall
+            result.add((element instanceof String) ? new String((String) element) : element);
+        }
+        return result;
+    }
+
+    /**
+     * Supplies {@code count} samples, that are guaranteed not to be contained in the {@link #elements(int, long)}
+     * of the given {@code size}, reproducible by {@code seed}.
+     */
+    public final List<Object> misses(final int count, final int size, final long seed) {
+        final Random random = new Random(~seed);
+        final List<Object> result = new ArrayList<>(count);
+        for (int index = 0; index < count; ++index) {
+            result.add(miss(random, size));
+        }
+        return result;
+    }
+}
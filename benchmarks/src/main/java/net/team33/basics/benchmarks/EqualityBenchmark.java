@@ -0,0 +1,62 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Object#equals(Object)} between two distinct but equal collections of the same {@link Kind}
+ * and {@link Object#hashCode()} of such a collection.
+ * <p/>
+ * Long strings make {@link Object#equals(Object)} expensive, they can be run with smaller sizes, e.g.
+ * {@code java -jar target/benchmarks.jar EqualityBenchmark -p dataset=LONG_STRINGS -p size=100,10000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EqualityBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"UNIFORM", "COLLIDING"})
+    public Dataset dataset;
+
+    @Param
+    public Kind kind;
+
+    private Collection<Object> subject;
+    private Collection<Object> other;
+
+    @Setup
+    public final void setup() {
+        final List<Object> elements = dataset.elements(size, Dataset.SEED);
+        subject = kind.create(elements);
+        other = kind.create(elements);
+    }
+
+    @Benchmark
+    public final boolean equalsCopy() {
+        return subject.equals(other);
+    }
+
+    @Benchmark
+    public final int hashCodeOfSubject() {
+        return subject.hashCode();
+    }
+}
@@ -0,0 +1,79 @@
+package net.team33.basics.benchmarks;
+
+import net.team33.basics.collections.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of an {@link Index} and its lookups, compared to the linear search of the underlying
+ * {@link List}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IndexBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final int MASK = SAMPLES - 1;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"UNIFORM", "SEQUENTIAL", "DUPLICATES", "COLLIDING"})
+    public Dataset dataset;
+
+    private List<Object> elements;
+    private Index index;
+    private Object[] hits;
+    private Object[] misses;
+    private int cursor = 0;
+
+    @Setup
+    public final void setup() {
+        elements = new ArrayList<>(dataset.elements(size, Dataset.SEED));
+        index = new Index(elements);
+        hits = Dataset.hits(elements, SAMPLES, Dataset.SEED).toArray();
+        misses = dataset.misses(SAMPLES, size, Dataset.SEED).toArray();
+    }
+
+    @Benchmark
+    public final Index create() {
+        return new Index(elements);
+    }
+
+    @Benchmark
+    public final int firstHit() {
+        return index.first(hits[MASK & cursor++]);
+    }
+
+    @Benchmark
+    public final int lastHit() {
+        return index.last(hits[MASK & cursor++]);
+    }
+
+    @Benchmark
+    public final boolean containsMiss() {
+        return index.contains(misses[MASK & cursor++]);
+    }
+
+    @Benchmark
+    public final int linearFirstHit() {
+        return elements.indexOf(hits[MASK & cursor++]);
+    }
+}
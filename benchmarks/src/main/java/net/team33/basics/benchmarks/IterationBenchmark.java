@@ -0,0 +1,52 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to iterate all elements of a collection of each {@link Kind}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IterationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"UNIFORM"})
+    public Dataset dataset;
+
+    @Param
+    public Kind kind;
+
+    private Collection<Object> subject;
+
+    @Setup
+    public final void setup() {
+        subject = kind.create(dataset.elements(size, Dataset.SEED));
+    }
+
+    @Benchmark
+    public final void iterate(final Blackhole blackhole) {
+        for (final Object element : subject) {
+            blackhole.consume(element);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package net.team33.basics.benchmarks;
+
+import com.google.common.base.Function;
+import com.google.common.base.Functions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import net.team33.basics.collections.AdaptiveIndexList;
+import net.team33.basics.collections.BuildableList;
+import net.team33.basics.collections.FinalIndexList;
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+import net.team33.basics.collections.MappedList;
+import net.team33.basics.lazy.LazyList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Enumeration of the collection types under test, those of this library as well as their JDK and Guava equivalents.
+ */
+public enum Kind {
+
+    ARRAY_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return new ArrayList<>(elements);
+        }
+    },
+
+    HASH_SET {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return new HashSet<>(elements);
+        }
+    },
+
+    LINKED_HASH_SET {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return new LinkedHashSet<>(elements);
+        }
+    },
+
+    IMMUTABLE_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return ImmutableList.copyOf(elements);
+        }
+    },
+
+    IMMUTABLE_SET {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return ImmutableSet.copyOf(elements);
+        }
+    },
+
+    FINAL_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return FinalList.from(elements);
+        }
+    },
+
+    FINAL_INDEX_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return FinalIndexList.from(elements);
+        }
+    },
+
+    FINAL_SET {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return FinalSet.from(elements);
+        }
+    },
+
+    FINAL_SET_SORTED_HASH {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return FinalSet.from(elements, FinalSet.Representation.SORTED_HASH);
+        }
+    },
+
+    FINAL_SET_OPEN_ADDRESSING {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return FinalSet.from(elements, FinalSet.Representation.OPEN_ADDRESSING);
+        }
+    },
+
+    ADAPTIVE_INDEX_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return AdaptiveIndexList.from(elements);
+        }
+    },
+
+    BUILDABLE_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return BuildableList.from(elements);
+        }
+    },
+
+    MAPPED_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            return MappedList.from(FinalList.from(elements), Functions.identity());
+        }
+    },
+
+    LAZY_LIST {
+        @Override
+        public Collection<Object> create(final List<Object> elements) {
+            final List<Object> origin = FinalList.from(elements);
+            return LazyList.from(origin.size(), new Function<Integer, Object>() {
+                @Override
+                public Object apply(final Integer index) {
+                    return origin.get(index);
+                }
+            });
+        }
+    };
+
+    /**
+     * Creates a new collection of this kind, containing the given {@code elements}.
+     */
+    public abstract Collection<Object> create(List<Object> elements);
+}
@@ -0,0 +1,68 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time of a single {@link Collection#contains(Object)} of each {@link Kind}, separately for samples that
+ * are contained (hits) and those that are not (misses).
+ * <p/>
+ * The samples are taken round robin from a fixed set of {@value #SAMPLES} to avoid that a single sample
+ * (and the way to find it) gets predictable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LookupBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final int MASK = SAMPLES - 1;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"UNIFORM", "SEQUENTIAL", "DUPLICATES", "COLLIDING"})
+    public Dataset dataset;
+
+    @Param
+    public Kind kind;
+
+    private Collection<Object> subject;
+    private Object[] hits;
+    private Object[] misses;
+    private int cursor = 0;
+
+    @Setup
+    public final void setup() {
+        final List<Object> elements = dataset.elements(size, Dataset.SEED);
+        subject = kind.create(elements);
+        hits = Dataset.hits(elements, SAMPLES, Dataset.SEED).toArray();
+        misses = dataset.misses(SAMPLES, size, Dataset.SEED).toArray();
+    }
+
+    @Benchmark
+    public final boolean containsHit() {
+        return subject.contains(hits[MASK & cursor++]);
+    }
+
+    @Benchmark
+    public final boolean containsMiss() {
+        return subject.contains(misses[MASK & cursor++]);
+    }
+}
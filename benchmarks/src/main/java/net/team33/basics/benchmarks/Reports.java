@@ -0,0 +1,23 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Utility for the reports that run benchmarks programmatically and print their results.
+ */
+final class Reports {
+
+    private Reports() {
+    }
+
+    /**
+     * Supplies the values of the parameters of a benchmark run, separated by commas, e.g. {@code "UNIFORM,1024"}.
+     */
+    static String params(final RunResult result) {
+        final StringBuilder builder = new StringBuilder(0);
+        for (final String key : result.getParams().getParamsKeys()) {
+            builder.append((0 == builder.length()) ? "" : ",").append(result.getParams().getParam(key));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package net.team33.basics.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the {@link ConcurrentReadBenchmark} with 1, 2, 4, ... up to a maximum number of threads and prints a table
+ * of the throughput and the scaling efficiency of each benchmark.
+ * <p/>
+ * The scaling efficiency is the throughput at {@code n} threads divided by {@code n} times the throughput at a single
+ * thread: {@code 1.0} means perfect scaling, a value that drops with the number of threads indicates contention.
+ * With more threads than available processors the efficiency naturally drops.
+ * <p/>
+ * Usage: {@code java -cp target/benchmarks.jar net.team33.basics.benchmarks.ScalingReport [maxThreads]}
+ * (default: the number of available processors)
+ */
+public final class ScalingReport {
+
+    private ScalingReport() {
+    }
+
+    @SuppressWarnings("UseOfSystemOutOrSystemErr")
+    public static void main(final String[] args) throws RunnerException {
+        final int maxThreads = (0 < args.length)
+                ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors();
+
+        final List<Integer> threadCounts = new ArrayList<>(0);
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(maxThreads);
+
+        // benchmark and params -> throughput by number of threads ...
+        final Map<String, Map<Integer, Double>> results = new LinkedHashMap<>(0);
+        for (final int threads : threadCounts) {
+            final Options options = new OptionsBuilder()
+                    .include(ConcurrentReadBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            for (final RunResult result : new Runner(options).run()) {
+                final String key = result.getParams().getBenchmark() + " " + Reports.params(result);
+                if (!results.containsKey(key)) {
+                    results.put(key, new LinkedHashMap<Integer, Double>(0));
+                }
+                results.get(key).put(threads, result.getPrimaryResult().getScore());
+            }
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-80s %8s %14s %10s", "benchmark", "threads", "ops/us", "efficiency"));
+        for (final Map.Entry<String, Map<Integer, Double>> entry : results.entrySet()) {
+            final Double single = entry.getValue().get(1);
+            for (final Map.Entry<Integer, Double> measured : entry.getValue().entrySet()) {
+                final int threads = measured.getKey();
+                final double score = measured.getValue();
+                System.out.println(String.format(
+                        "%-80s %8d %14.1f %10.2f",
+                        entry.getKey(), threads, score, (null == single) ? Double.NaN : (score / threads / single)));
+            }
+        }
+    }
+}
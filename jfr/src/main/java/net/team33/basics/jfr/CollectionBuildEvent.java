@@ -0,0 +1,42 @@
+package net.team33.basics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event that records the build of the lookup structure of a large (or slowly built)
+ * {@link net.team33.basics.collections.FinalSet FinalSet}, {@link net.team33.basics.collections.FinalIndexList
+ * FinalIndexList} or {@link net.team33.basics.collections.Index Index}.
+ * <p/>
+ * The stack trace of the event leads to the code that caused the build.
+ */
+@Name("net.team33.basics.CollectionBuild")
+@Label("Collection Build")
+@Category({"team33", "Collections"})
+@Description("Build of the lookup structure of a large immutable collection or index")
+@StackTrace
+class CollectionBuildEvent extends Event {
+
+    @Label("Type")
+    @Description("The type of the collection")
+    Class<?> type;
+
+    @Label("Size")
+    @Description("The number of elements")
+    int size;
+
+    @Label("Build Time")
+    @Description("The time to build the lookup structure, including the sort time")
+    @Timespan(Timespan.NANOSECONDS)
+    long buildTime;
+
+    @Label("Sort Time")
+    @Description("The part of the build time spent on sorting")
+    @Timespan(Timespan.NANOSECONDS)
+    long sortTime;
+}
@@ -0,0 +1,77 @@
+package net.team33.basics.jfr;
+
+import net.team33.basics.collections.BuildMonitor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of a {@link BuildMonitor} that emits a flight recorder event {@code net.team33.basics.CollectionBuild}
+ * whenever a lookup structure with at least a minimum number of elements or taking at least a minimum duration has
+ * been built.
+ * <p/>
+ * It is registered as a service, so it is effective as soon as this module is on the class path. The thresholds are
+ * taken from the system properties ...
+ * <ul>
+ * <li>{@value #MIN_SIZE} (default: {@value #DEFAULT_MIN_SIZE} elements)</li>
+ * <li>{@value #MIN_MILLIS} (default: {@value #DEFAULT_MIN_MILLIS} milliseconds)</li>
+ * </ul>
+ * The event begins when the build starts and ends when it has finished, so it covers the build on a flight recorder
+ * timeline. Events are only begun at all if the event is enabled in the running recording.
+ */
+public class JfrBuildMonitor implements BuildMonitor {
+
+    /**
+     * Name of the system property that specifies the minimum number of elements of a recorded build.
+     */
+    public static final String MIN_SIZE = "net.team33.basics.jfr.minSize";
+
+    /**
+     * Name of the system property that specifies the minimum duration (in milliseconds) of a recorded build.
+     */
+    public static final String MIN_MILLIS = "net.team33.basics.jfr.minMillis";
+
+    private static final int DEFAULT_MIN_SIZE = 100000;
+    private static final long DEFAULT_MIN_MILLIS = 10;
+
+    private final int minSize;
+    private final long minNanos;
+
+    /**
+     * Initiates a new instance using the thresholds given by system properties, intended to be called by
+     * {@link java.util.ServiceLoader}.
+     */
+    public JfrBuildMonitor() {
+        this(Integer.getInteger(MIN_SIZE, DEFAULT_MIN_SIZE),
+             TimeUnit.MILLISECONDS.toNanos(Long.getLong(MIN_MILLIS, DEFAULT_MIN_MILLIS)));
+    }
+
+    JfrBuildMonitor(final int minSize, final long minNanos) {
+        this.minSize = minSize;
+        this.minNanos = minNanos;
+    }
+
+    @Override
+    public final Object onStart() {
+        final CollectionBuildEvent event = new CollectionBuildEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public final void onBuild(final Object started, final Class<?> type, final int size, final long buildNanos,
+                              final long sortNanos) {
+        if ((started instanceof CollectionBuildEvent) && ((minSize <= size) || (minNanos <= buildNanos))) {
+            final CollectionBuildEvent event = (CollectionBuildEvent) started;
+            event.end();
+            event.type = type;
+            event.size = size;
+            event.buildTime = buildNanos;
+            event.sortTime = sortNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.team33.basics.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.team33.basics.collections.FinalSet;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JfrBuildMonitorTest {
+
+    private static final String EVENT = "net.team33.basics.CollectionBuild";
+
+    private static List<RecordedEvent> record(final Runnable action) throws IOException {
+        final Path file = Files.createTempFile("JfrBuildMonitorTest", ".jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        try {
+            final List<RecordedEvent> result = new ArrayList<>(1);
+            for (final RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (EVENT.equals(event.getEventType().getName())) {
+                    result.add(event);
+                }
+            }
+            return result;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void build(final JfrBuildMonitor monitor, final int size, final long buildNanos,
+                              final long sortNanos) {
+        monitor.onBuild(monitor.onStart(), FinalSet.class, size, buildNanos, sortNanos);
+    }
+
+    @Test
+    public final void testOnBuild() throws IOException {
+        final List<RecordedEvent> events = record(
+                () -> build(new JfrBuildMonitor(1000, Long.MAX_VALUE), 1000, 2000, 500));
+        assertEquals(1, events.size());
+        final RecordedEvent event = events.get(0);
+        assertEquals(FinalSet.class.getName(), event.getClass("type").getName());
+        assertEquals(1000, event.getInt("size"));
+        assertEquals(2000, event.getDuration("buildTime").toNanos());
+        assertEquals(500, event.getDuration("sortTime").toNanos());
+    }
+
+    @Test
+    public final void testOnBuild_coversBuild() throws IOException {
+        final JfrBuildMonitor monitor = new JfrBuildMonitor(1000, Long.MAX_VALUE);
+        final List<RecordedEvent> events = record(() -> {
+            final Object started = monitor.onStart();
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException caught) {
+                throw new IllegalStateException(caught);
+            }
+            monitor.onBuild(started, FinalSet.class, 1000, 2000, 500);
+        });
+        assertEquals(1, events.size());
+        assertTrue(20 <= events.get(0).getDuration().toMillis());
+    }
+
+    @Test
+    public final void testOnBuild_belowThresholds() throws IOException {
+        assertTrue(record(() -> build(new JfrBuildMonitor(1000, 3000), 999, 2999, 500)).isEmpty());
+    }
+
+    @Test
+    public final void testOnBuild_slow() throws IOException {
+        assertEquals(1, record(() -> build(new JfrBuildMonitor(1000, 3000), 10, 3000, 500)).size());
+    }
+
+    @Test
+    public final void testOnBuild_notRecording() throws IOException {
+        // Started outside of any recording, so the event has not begun ...
+        final JfrBuildMonitor monitor = new JfrBuildMonitor(1000, 3000);
+        final Object started = monitor.onStart();
+        assertTrue(record(() -> monitor.onBuild(started, FinalSet.class, 1000, 3000, 500)).isEmpty());
+    }
+
+    @Test
+    public final void testServiceLoader() throws IOException {
+        // The monitor is located as a service, so a FinalSet of default minimum size is recorded ...
+        final List<Integer> elements = new ArrayList<>(100000);
+        for (int index = 0; index < 100000; ++index) {
+            elements.add(index);
+        }
+        final List<RecordedEvent> events = record(() -> FinalSet.from(elements));
+        assertEquals(1, events.size());
+        assertEquals(100000, events.get(0).getInt("size"));
+    }
+}
@@ -0,0 +1,141 @@
+package net.team33.basics.collections;
+
+import java.util.Collection;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Derivative of a {@link FinalList} that starts with plain linear searching for elements and switches to optimized
+ * searching (just like a {@link FinalIndexList}) once it turns out to be worth it.
+ * <p/>
+ * This mainly affects ...
+ * <ul>
+ * <li>{@link #indexOf(Object)}</li>
+ * <li>{@link #lastIndexOf(Object)}</li>
+ * <li>{@link #contains(Object)}</li>
+ * <li>{@link #containsAll(Collection)} (implicitly trough {@link #contains(Object)})</li>
+ * </ul>
+ * Each of these operations is counted as a lookup. When the number of lookups exceeds a {@code threshold},
+ * an {@link Index} is built (once, even if requested concurrently) and used for any further lookup.
+ * So an instance is as cheap to create as a plain {@link FinalList} and is as fast to search as a
+ * {@link FinalIndexList} when it is searched frequently.
+ * <p/>
+ * By default the {@code threshold} is about {@code log2(size())}, as a linear search costs {@code O(n)} while
+ * building the index costs {@code O(n log n)}.
+ * <p/>
+ * According to a {@link FinalIndexList}, it will show unspecific behavior, if it contains mutable elements, which
+ * in the meantime are in deed modified (in a manner that affects hashCode() or equals()).
+ */
+public class AdaptiveIndexList<E> extends FinalList<E> {
+
+    private final int threshold;
+    private volatile Index index = null;
+
+    // Counted racily, lost increments just delay the switch a little ...
+    private volatile int lookups = 0;
+
+    /**
+     * Mentioned to support derivation.
+     * Use {@link #from(Object[])}, {@link #from(Collection)} or {@link #from(Collection, int)} to directly retrieve
+     * an instance.
+     */
+    protected AdaptiveIndexList(final Collection<? extends E> origin, final int threshold) {
+        super(origin);
+        if (0 > threshold) {
+            throw new IllegalArgumentException("threshold must not be negative but was " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Supplies a new instance of {@link AdaptiveIndexList} by given {@code elements}, using the default
+     * {@code threshold}.
+     */
+    @SuppressWarnings({"OverloadedVarargsMethod", "MethodOverridesStaticMethodOfSuperclass"})
+    @SafeVarargs
+    public static <E> AdaptiveIndexList<E> from(final E... elements) {
+        return from(asList(elements));
+    }
+
+    /**
+     * Supplies an {@link AdaptiveIndexList} as a copy of an original {@link Collection}, using the default
+     * {@code threshold}.
+     * <p/>
+     * If the original already is an {@link AdaptiveIndexList} than the original itself will be returned
+     * (no need for a copy).
+     */
+    @SuppressWarnings("MethodOverridesStaticMethodOfSuperclass")
+    public static <E> AdaptiveIndexList<E> from(final Collection<? extends E> origin) {
+        //noinspection unchecked
+        return (origin instanceof AdaptiveIndexList)
+                ? (AdaptiveIndexList<E>) origin
+                : new AdaptiveIndexList<E>(origin, defaultThreshold(origin.size()));
+    }
+
+    /**
+     * Supplies a new instance of {@link AdaptiveIndexList} as a copy of an original {@link Collection} that builds
+     * its index after {@code threshold} lookups.
+     *
+     * @throws IllegalArgumentException if {@code threshold} is negative.
+     */
+    public static <E> AdaptiveIndexList<E> from(final Collection<? extends E> origin, final int threshold) {
+        return new AdaptiveIndexList<>(origin, threshold);
+    }
+
+    private static int defaultThreshold(final int size) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Indicates if the index has been built.
+     */
+    public final boolean isIndexed() {
+        return null != index;
+    }
+
+    @Override
+    final Footprint.Builder footprint(final Footprint.Builder builder) {
+        final Index idx = index;
+        super.footprint(builder).fields(1, 2);
+        return (null == idx) ? builder : builder.part("index", idx.footprint().getStructureBytes());
+    }
+
+    private Index index() {
+        final Index result = index;
+        if (null != result) {
+            return result;
+        } else if (threshold > lookups) {
+            //noinspection NonAtomicOperationOnVolatileField
+            lookups += 1;
+            //noinspection ReturnOfNull
+            return null;
+        } else {
+            return newIndex();
+        }
+    }
+
+    private synchronized Index newIndex() {
+        if (null == index) {
+            index = new Index(this);
+        }
+        return index;
+    }
+
+    @Override
+    public final int indexOf(final Object o) {
+        final Index idx = index();
+        return (null == idx) ? super.indexOf(o) : idx.first(o);
+    }
+
+    @Override
+    public final int lastIndexOf(final Object o) {
+        final Index idx = index();
+        return (null == idx) ? super.lastIndexOf(o) : idx.last(o);
+    }
+
+    @Override
+    public final boolean contains(final Object o) {
+        final Index idx = index();
+        return (null == idx) ? super.contains(o) : idx.contains(o);
+    }
+}
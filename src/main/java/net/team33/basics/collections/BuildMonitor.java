@@ -0,0 +1,52 @@
+package net.team33.basics.collections;
+
+/**
+ * Specifies a receiver of build events of an {@link Index}, a {@link FinalIndexList} or a {@link FinalSet}, that is
+ * notified whenever one of those starts and finishes building its lookup structure.
+ * <p/>
+ * Implementations are located once by {@link java.util.ServiceLoader} (using the class loader of this library),
+ * so a monitor can be plugged in by just putting it on the class path along with a
+ * {@code META-INF/services/net.team33.basics.collections.BuildMonitor} file.
+ * <p/>
+ * Builds are not timed at all unless an implementation is present. An implementation is called by any thread that
+ * builds a lookup structure, so it must be thread-safe. It should decide cheaply whether or not an event is worth
+ * recording, e.g. by a size or duration threshold.
+ */
+public interface BuildMonitor {
+
+    /**
+     * A {@link BuildMonitor} that ignores any event, used if no implementation is present.
+     */
+    BuildMonitor NONE = new BuildMonitor() {
+        @Override
+        public Object onStart() {
+            // noinspection ReturnOfNull
+            return null;
+        }
+
+        @Override
+        public void onBuild(final Object started, final Class<?> type, final int size, final long buildNanos,
+                            final long sortNanos) {
+        }
+    };
+
+    /**
+     * Called when the build of a lookup structure starts, right before it is timed.
+     *
+     * @return Anything to be passed to {@link #onBuild(Object, Class, int, long, long) onBuild(...)} when the same
+     * build has finished, e.g. an event that has begun, or {@code null}.
+     */
+    Object onStart();
+
+    /**
+     * Called when a lookup structure has been built.
+     *
+     * @param started    The result of {@link #onStart()} at the start of the same build.
+     * @param type       The type of the collection, e.g. {@link FinalSet}.
+     * @param size       The number of elements.
+     * @param buildNanos The time to build the lookup structure (determining the hash codes and sorting) in
+     *                   nanoseconds.
+     * @param sortNanos  The part of {@code buildNanos} spent on sorting.
+     */
+    void onBuild(Object started, Class<?> type, int size, long buildNanos, long sortNanos);
+}
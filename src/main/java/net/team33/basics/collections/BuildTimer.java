@@ -0,0 +1,77 @@
+package net.team33.basics.collections;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Times the build of a lookup structure and reports it to the {@link BuildMonitor} in charge.
+ * <p/>
+ * If there is no {@link BuildMonitor} present, a shared instance is supplied that does not even read the clock.
+ */
+final class BuildTimer {
+
+    private static final BuildMonitor MONITOR = load();
+    private static final BuildTimer INACTIVE = new BuildTimer(BuildMonitor.NONE, null, 0L);
+
+    private final BuildMonitor monitor;
+    private final Object started;
+    private final long start;
+    private long sorting = 0L;
+    private long sorted = 0L;
+
+    private BuildTimer(final BuildMonitor monitor, final Object started, final long start) {
+        this.monitor = monitor;
+        this.started = started;
+        this.start = start;
+    }
+
+    @SuppressWarnings("ErrorNotRethrown")
+    private static BuildMonitor load() {
+        try {
+            final Iterator<BuildMonitor> monitors =
+                    ServiceLoader.load(BuildMonitor.class, BuildMonitor.class.getClassLoader()).iterator();
+            return monitors.hasNext() ? monitors.next() : BuildMonitor.NONE;
+
+        } catch (final ServiceConfigurationError ignored) {
+            // A broken monitor must not break the collections ...
+            return BuildMonitor.NONE;
+        }
+    }
+
+    /**
+     * Supplies a started {@link BuildTimer} reporting to the {@link BuildMonitor} located by
+     * {@link ServiceLoader}, if any.
+     */
+    static BuildTimer start() {
+        return start(MONITOR);
+    }
+
+    /**
+     * Supplies a started {@link BuildTimer} reporting to a given {@link BuildMonitor}, that is notified of the
+     * start right away.
+     */
+    static BuildTimer start(final BuildMonitor monitor) {
+        return (BuildMonitor.NONE == monitor)
+                ? INACTIVE
+                : new BuildTimer(monitor, monitor.onStart(), System.nanoTime());
+    }
+
+    final void sorting() {
+        if (INACTIVE != this) {
+            sorting = System.nanoTime();
+        }
+    }
+
+    final void sorted() {
+        if (INACTIVE != this) {
+            sorted = System.nanoTime();
+        }
+    }
+
+    final void stop(final Class<?> type, final int size) {
+        if (INACTIVE != this) {
+            monitor.onBuild(started, type, size, System.nanoTime() - start, sorted - sorting);
+        }
+    }
+}
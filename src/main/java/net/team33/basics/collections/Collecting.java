@@ -163,6 +163,39 @@ public final class Collecting {
         return subject;
     }
 
+    /**
+     * Adds some {@code elements} after {@code conversion} to a given {@code subject}.
+     * <p/>
+     * In contrast to {@link #addAll(Collection, Function, Iterable)} the results of the {@code conversion} are
+     * remembered according to a given {@link Memoization} for the duration of this operation, so that the
+     * {@code conversion} is applied only once per distinct input (as far as the results are remembered).
+     * Mentioned for expensive {@code conversion}s of inputs that repeat heavily.
+     *
+     * @return The {@code subject}.
+     * @throws UnsupportedOperationException if {@link Collection#add(Object)} is not supported by the {@code subject}.
+     * @throws ClassCastException            if the class of the results of {@code conversion} prevents them from being
+     *                                       added to the {@code subject}
+     *                                       (may occur only if used raw or forced in a mismatched class context).
+     * @throws NullPointerException          <ul>
+     *                                       <li>if {@code subject}, the {@code conversion}, the {@code memoization}
+     *                                       or the {@link Iterable} of {@code elements} is {@code null}</li>
+     *                                       <li>if some of the specified {@code elements} are {@code null}
+     *                                       and the {@code conversion} does not permit {@code null} arguments.</li>
+     *                                       <li>if some results of {@code conversion} are {@code null}
+     *                                       and the {@code subject} does not permit {@code null} elements.</li>
+     *                                       </ul>
+     * @throws IllegalArgumentException      if some property of some results of {@code conversion} prevents them from
+     *                                       being added to the {@code subject}.
+     * @throws IllegalStateException         if the results of {@code conversion} cannot be added at this time due to
+     *                                       the {@code subject}'s insertion restrictions (if any).
+     */
+    public static <I, E, C extends Collection<E>> C addAll(
+            final C subject, final Function<I, ? extends E> conversion, final Memoization memoization,
+            final Iterable<? extends I> elements) {
+
+        return addAll(subject, memoization.<I, E>apply(conversion), elements);
+    }
+
     /**
      * Removes any element from a given {@code subject}.
      *
@@ -153,6 +153,36 @@ public class Collector<E, C extends Collection<E>, R extends Collector<E, C, R>>
         return cast(this);
     }
 
+    /**
+     * Substitutes {@link Collection#addAll(Collection)} with {@code conversion} for the underlying
+     * {@link #subject}, remembering the results of the {@code conversion} according to a given {@link Memoization}.
+     *
+     * @return The related {@code Collector} itself in its finally intended representation. Of course not {@code null}.
+     * @throws UnsupportedOperationException if {@link Collection#addAll(Collection)} is not supported by the
+     *                                       underlying {@link #subject}
+     *                                       (may occur only if used with an improper type of {@code subject}).
+     * @throws ClassCastException            if the class of the specified {@code elements} prevents them from being
+     *                                       added to the {@code subject}
+     *                                       (may occur only if used raw or forced in a mismatched class context).
+     * @throws NullPointerException          <ul>
+     *                                       <li>if the {@code memoization} or the {@link Iterable} of
+     *                                       {@code elements} is {@code null}</li>
+     *                                       <li>if some of the specified {@code elements} are {@code null} and the
+     *                                       underlying {@link #subject} does not permit {@code null}
+     *                                       elements.</li>
+     *                                       </ul>
+     * @throws IllegalArgumentException      if some property of some {@code elements} prevents them from being
+     *                                       added to the underlying {@link #subject}.
+     * @throws IllegalStateException         if the {@code elements} cannot be added at this time due to the underlying
+     *                                       {@link #subject}'s insertion restrictions (if any).
+     * @see Collecting#addAll(Collection, Function, Memoization, Iterable)
+     */
+    public final <I> R addAll(final Function<I, ? extends E> conversion, final Memoization memoization,
+                              final Iterable<? extends I> elements) {
+        Collecting.addAll(subject, conversion, memoization, elements);
+        return cast(this);
+    }
+
     /**
      * Substitutes {@link Collection#remove(Object)} for the underlying {@link #subject}.
      * <p/>
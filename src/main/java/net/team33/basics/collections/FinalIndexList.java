@@ -31,22 +31,36 @@ public class FinalIndexList<E> extends FinalList<E> {
     private static final Comparator<Entry> ORDER = new Order();
 
     private final Entry[] entries;
+    private final LookupMetrics metrics;
 
     /**
      * Mentioned to support derivation.
      * Use {@link #from(Object[])} or {@link #from(Collection)} to directly retrieve an instance.
      */
     protected FinalIndexList(final Collection<? extends E> origin) {
+        this(origin, LookupMetrics.NONE);
+    }
+
+    /**
+     * Mentioned to support derivation.
+     * Use {@link #monitored(Collection, LookupMetrics)} to directly retrieve an instance.
+     */
+    protected FinalIndexList(final Collection<? extends E> origin, final LookupMetrics metrics) {
         super(origin);
-        entries = newIndex(iterator(), size());
+        this.entries = newIndex(iterator(), size());
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     private static Entry[] newIndex(final Iterator<?> origin, final int size) {
+        final BuildTimer timer = BuildTimer.start();
         final Entry[] result = new Entry[size];
         for (int index = 0; (index < size) || origin.hasNext(); ++index) {
             result[index] = new Entry(Objects.hashCode(origin.next()), index);
         }
+        timer.sorting();
         Arrays.sort(result, ORDER);
+        timer.sorted();
+        timer.stop(FinalIndexList.class, size);
         return result;
     }
 
@@ -71,8 +85,18 @@ public class FinalIndexList<E> extends FinalList<E> {
         return (origin instanceof FinalIndexList) ? (FinalIndexList<E>) origin : new FinalIndexList<>(origin);
     }
 
+    /**
+     * Supplies a new {@link FinalIndexList} as a copy of an original {@link Collection}, that reports each lookup
+     * to the given {@link LookupMetrics}.
+     */
+    public static <E> FinalIndexList<E> monitored(final Collection<? extends E> origin, final LookupMetrics metrics) {
+        return new FinalIndexList<>(origin, metrics);
+    }
+
     @SuppressWarnings("ReturnOfNull")
     private Entry entry(final Direction direction, final Object other) {
+        final long start = (LookupMetrics.NONE == metrics) ? LookupMetrics.NOT_SAMPLED : metrics.start();
+        int probes = 0;
         if (0 < entries.length) {
             final int otherHash = Objects.hashCode(other);
 
@@ -103,8 +127,9 @@ public class FinalIndexList<E> extends FinalList<E> {
             }
 
             while (lowerHash == otherHash) {
+                probes += 1;
                 if (Objects.equals(other, get(entries[lower].index))) {
-                    return entries[lower];
+                    return report(entries[lower], probes, start);
 
                 } else {
                     lower = direction.next(lower);
@@ -112,7 +137,14 @@ public class FinalIndexList<E> extends FinalList<E> {
                 }
             }
         }
-        return null;
+        return report(null, probes, start);
+    }
+
+    private Entry report(final Entry entry, final int probes, final long start) {
+        if (LookupMetrics.NONE != metrics) {
+            metrics.onLookup(null != entry, probes, start);
+        }
+        return entry;
     }
 
     @SuppressWarnings("RefusedBequest")
@@ -138,6 +170,25 @@ public class FinalIndexList<E> extends FinalList<E> {
         return null != entry(Direction.FORWARD, o);
     }
 
+    @Override
+    final Footprint.Builder footprint(final Footprint.Builder builder) {
+        return super.footprint(builder)
+                .fields(2, 0)
+                .array("entries", entries.length, Footprint.REFERENCE)
+                .objects("entry objects", entries.length, 0, 2);
+    }
+
+    /**
+     * Supplies statistics about the hash codes of the elements.
+     */
+    public final IndexStatistics statistics() {
+        final int[] hashes = new int[entries.length];
+        for (int index = 0; index < hashes.length; ++index) {
+            hashes[index] = entries[index].hash;
+        }
+        return IndexStatistics.ofSorted(hashes);
+    }
+
     private enum Direction {
         FORWARD {
             @Override
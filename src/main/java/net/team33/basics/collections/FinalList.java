@@ -1,5 +1,7 @@
 package net.team33.basics.collections;
 
+import com.google.common.base.Function;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -9,6 +11,9 @@ import static java.util.Arrays.asList;
 
 /**
  * Implementation of an immutable {@link List}.
+ * <p/>
+ * {@link #from(Collection)} supplies a plain instance that always searches linearly.
+ * Use {@link #adaptive(Collection)} to get an instance that gets fast when it is searched frequently.
  */
 @SuppressWarnings("ClassWithTooManyMethods")
 public class FinalList<E> extends UnmodifiableList<E> implements RandomAccess {
@@ -43,6 +48,28 @@ public class FinalList<E> extends UnmodifiableList<E> implements RandomAccess {
         return (origin instanceof FinalList) ? (FinalList<E>) origin : new FinalList<>(origin);
     }
 
+    /**
+     * Supplies a new {@link AdaptiveIndexList} by given {@code elements}.
+     *
+     * @see #adaptive(Collection)
+     */
+    @SuppressWarnings("OverloadedVarargsMethod")
+    @SafeVarargs
+    public static <E> AdaptiveIndexList<E> adaptive(final E... elements) {
+        return adaptive(asList(elements));
+    }
+
+    /**
+     * Supplies an {@link AdaptiveIndexList} as a copy of an original {@link Collection}, that is as cheap to create
+     * as a plain {@link FinalList} but builds an {@link Index} once it turns out to be searched frequently.
+     * That costs additional memory and a single lookup of {@code O(n log n)}, so use it deliberately.
+     * <p/>
+     * Same as {@link AdaptiveIndexList#from(Collection)}.
+     */
+    public static <E> AdaptiveIndexList<E> adaptive(final Collection<? extends E> origin) {
+        return AdaptiveIndexList.from(origin);
+    }
+
     @SuppressWarnings("OverloadedVarargsMethod")
     @SafeVarargs
     public static <E> Builder<E> builder(final E... elements) {
@@ -70,6 +97,31 @@ public class FinalList<E> extends UnmodifiableList<E> implements RandomAccess {
         return elements.length;
     }
 
+    /**
+     * Supplies an estimation of the memory retained by this list itself, excluding its elements.
+     */
+    public final Footprint footprint() {
+        return footprint(Footprint.builder()).build();
+    }
+
+    /**
+     * Supplies an estimation of the memory retained by this list, including its elements, whose sizes are given by
+     * a {@link Function} {@code elementBytes}.
+     */
+    public final Footprint footprint(final Function<? super E, Long> elementBytes) {
+        return footprint(Footprint.builder()).elements(this, elementBytes).build();
+    }
+
+    /**
+     * Adds the structure of this list to a {@link Footprint.Builder}.
+     * The derivatives within this package ({@link FinalIndexList}, {@link AdaptiveIndexList}) override this to add
+     * their index. Derivatives outside this package can't, so their additional structure is not taken into account.
+     */
+    Footprint.Builder footprint(final Footprint.Builder builder) {
+        return builder.fields(1, 0)
+                .array("elements", elements.length, Footprint.REFERENCE);
+    }
+
     @SuppressWarnings("ClassNameSameAsAncestorName")
     public static class Builder<E>
             extends Lister<E, List<E>, Builder<E>>
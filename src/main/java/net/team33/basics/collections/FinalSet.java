@@ -1,9 +1,11 @@
 package net.team33.basics.collections;
 
+import com.google.common.base.Function;
+
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -27,7 +29,17 @@ import static java.util.Arrays.asList;
  * <li>{@link #from(Collection)}</li>
  * <li>{@code #builder(Object[])}.[...].  {@code Builder#build() build()}</li>
  * <li>{@code #builder(Collection)}.[...].{@code Builder#build() build()}</li>
+ * <li>{@link #from(Collection, Representation)}</li>
+ * <li>{@link #deferred(Object[])}</li>
+ * <li>{@link #deferred(Collection)}</li>
  * </ul>
+ * An instance created by {@code deferred(...)} does not select its {@linkplain Representation representation} nor
+ * build its lookup structure until it is needed first by {@link #contains(Object)}, {@link #containsAll(Collection)}
+ * or {@link #equals(Object)}, so an instance that is only iterated or passed through costs no more than a copy of its
+ * elements.
+ * <p/>
+ * The lookup structure is {@linkplain Representation represented} depending on the elements, unless a representation
+ * is explicitly specified.
  * <p/>
  * NOTE (from documentation of {@link Set}):
  * Great care must be exercised if mutable objects are used as set elements. The behavior of a set is not specified if
@@ -37,11 +49,10 @@ import static java.util.Arrays.asList;
 @SuppressWarnings("EqualsAndHashcode")
 public class FinalSet<E> extends FinalCollection<E, Set<E>> implements Set<E> {
 
-    private static final Comparator<Entry> ORDER = new Order();
-
     @SuppressWarnings("TypeMayBeWeakened")
-    private FinalSet(final Set<? extends E> origin) {
-        super(new InnerSet<>(origin));
+    private FinalSet(final Set<? extends E> origin, final Representation representation, final boolean deferred,
+                     final LookupMetrics metrics) {
+        super(new InnerSet<>(origin, representation, deferred, metrics));
     }
 
     /**
@@ -60,20 +71,131 @@ public class FinalSet<E> extends FinalCollection<E, Set<E>> implements Set<E> {
      * (no need for a copy).
      */
     public static <E> FinalSet<E> from(final Collection<? extends E> origin) {
-        //noinspection ChainOfInstanceofChecks
         if (origin instanceof FinalSet) {
             //noinspection unchecked
             return (FinalSet<E>) origin;
 
-        } else if (origin instanceof Set) {
+        } else {
+            return newInstance(origin, null, false, LookupMetrics.NONE);
+        }
+    }
+
+    /**
+     * Supplies a {@link FinalSet} as a copy of an original {@link Collection}, using a specific
+     * {@link Representation} of its lookup structure.
+     * <p/>
+     * If the original already is a {@link FinalSet} of the same {@link Representation} than the original itself will
+     * be returned (no need for a copy).
+     *
+     * @throws IllegalArgumentException if the {@code representation} is not applicable to the elements.
+     */
+    public static <E> FinalSet<E> from(final Collection<? extends E> origin, final Representation representation) {
+        if ((origin instanceof FinalSet) && (representation == ((FinalSet<?>) origin).representation())) {
             //noinspection unchecked
-            return new FinalSet<>((Set<? extends E>) origin);
+            return (FinalSet<E>) origin;
 
         } else {
-            return new FinalSet<>(new LinkedHashSet<>(origin));
+            return newInstance(origin, Objects.requireNonNull(representation), false, LookupMetrics.NONE);
         }
     }
 
+    /**
+     * Supplies a new instance of {@link FinalSet} by given {@code elements}, that defers building its lookup structure
+     * until it is needed first.
+     */
+    @SuppressWarnings("OverloadedVarargsMethod")
+    @SafeVarargs
+    public static <E> FinalSet<E> deferred(final E... elements) {
+        return deferred(asList(elements));
+    }
+
+    /**
+     * Supplies a {@link FinalSet} as a copy of an original {@link Collection}, that defers building its lookup
+     * structure until it is needed first.
+     * <p/>
+     * If the original already is a {@link FinalSet} than the original itself will be returned
+     * (no need for a copy), regardless of whether or not it already has built its lookup structure.
+     */
+    public static <E> FinalSet<E> deferred(final Collection<? extends E> origin) {
+        //noinspection unchecked
+        return (origin instanceof FinalSet)
+                ? (FinalSet<E>) origin
+                : newInstance(origin, null, true, LookupMetrics.NONE);
+    }
+
+    /**
+     * Supplies a new {@link FinalSet} as a copy of an original {@link Collection}, that reports each lookup by
+     * {@link #contains(Object)} to the given {@link LookupMetrics}.
+     * <p/>
+     * Other than {@link #from(Collection)}, this always supplies a new instance.
+     */
+    public static <E> FinalSet<E> monitored(final Collection<? extends E> origin, final LookupMetrics metrics) {
+        return newInstance(origin, null, false, Objects.requireNonNull(metrics));
+    }
+
+    /**
+     * Supplies a new {@link FinalSet} as a copy of an original {@link Collection}, using a specific
+     * {@link Representation} of its lookup structure, that reports each lookup by {@link #contains(Object)} to the
+     * given {@link LookupMetrics}.
+     *
+     * @throws IllegalArgumentException if the {@code representation} is not applicable to the elements.
+     */
+    public static <E> FinalSet<E> monitored(final Collection<? extends E> origin, final Representation representation,
+                                            final LookupMetrics metrics) {
+        return newInstance(origin, Objects.requireNonNull(representation), false, Objects.requireNonNull(metrics));
+    }
+
+    private static <E> FinalSet<E> newInstance(final Collection<? extends E> origin,
+                                               final Representation representation, final boolean deferred,
+                                               final LookupMetrics metrics) {
+        //noinspection unchecked
+        return (origin instanceof Set)
+                ? new FinalSet<>((Set<? extends E>) origin, representation, deferred, metrics)
+                : new FinalSet<>(new LinkedHashSet<>(origin), representation, deferred, metrics);
+    }
+
+    /**
+     * Retrieves the {@link Representation} of the lookup structure.
+     * Selects the representation if not yet done (see {@code deferred(...)}), but does not build the lookup structure.
+     */
+    public final Representation representation() {
+        return ((InnerSet<?>) core).representation();
+    }
+
+    /**
+     * Indicates if the lookup structure has already been built.
+     * This is always the case unless the instance was created by {@code deferred(...)}.
+     */
+    public final boolean isIndexed() {
+        return ((InnerSet<?>) core).isIndexed();
+    }
+
+    /**
+     * Supplies statistics about the hash codes of the elements, regardless of the {@link Representation}.
+     * Their runs only directly reflect the lookup costs of {@link Representation#SORTED_HASH SORTED_HASH}
+     * (see {@link IndexStatistics}).
+     */
+    public final IndexStatistics statistics() {
+        return ((InnerSet<?>) core).statistics();
+    }
+
+    /**
+     * Supplies an estimation of the memory retained by this set itself, excluding its elements.
+     * Does not build the lookup structure if not yet done.
+     */
+    public final Footprint footprint() {
+        return ((InnerSet<?>) core).footprint(Footprint.builder()).build();
+    }
+
+    /**
+     * Supplies an estimation of the memory retained by this set, including its elements, whose sizes are given by
+     * a {@link Function} {@code elementBytes}.
+     * Does not build the lookup structure if not yet done.
+     */
+    public final Footprint footprint(final Function<? super E, Long> elementBytes) {
+        return ((InnerSet<?>) core).footprint(Footprint.builder()).elements(this, elementBytes).build();
+    }
+
     @Override
     public final boolean equals(final Object obj) {
         return core.equals(obj);
@@ -84,76 +206,179 @@ public class FinalSet<E> extends FinalCollection<E, Set<E>> implements Set<E> {
         return core.hashCode();
     }
 
+    /**
+     * Enumeration of the representations of the lookup structure of a {@link FinalSet}.
+     * <p/>
+     * Usually a suitable representation is selected {@linkplain #select(Collection) automatically}, based on the
+     * number and type of the elements and a sample of their hash codes. Use {@link FinalSet#from(Collection,
+     * Representation)} to select one explicitly.
+     */
+    public enum Representation {
+
+        /**
+         * Compares each element in turn, cheapest for tiny sets. Needs no additional memory.
+         */
+        LINEAR {
+            @Override
+            Lookup newLookup(final Object[] elements) {
+                return Lookup.LINEAR;
+            }
+        },
+
+        /**
+         * A bit set by ordinal, only applicable to (not empty) sets of enum constants of a single enum type.
+         * Its lookups don't compare any elements, so they report no probes to {@link LookupMetrics}.
+         */
+        ENUM_BITS {
+            @Override
+            Lookup newLookup(final Object[] elements) {
+                return new Lookup.EnumBits(elements);
+            }
+
+            @Override
+            boolean isApplicable(final Object[] elements) {
+                return Lookup.EnumBits.isApplicable(elements);
+            }
+        },
+
+        /**
+         * Hash codes sorted for a binary search, robust against poor {@link Object#hashCode()} implementations.
+         */
+        SORTED_HASH {
+            @Override
+            Lookup newLookup(final Object[] elements) {
+                return new Lookup.SortedHash(elements);
+            }
+        },
+
+        /**
+         * A hash table with linear probing, fastest for large sets with well distributed hash codes.
+         */
+        OPEN_ADDRESSING {
+            @Override
+            Lookup newLookup(final Object[] elements) {
+                return new Lookup.OpenAddressing(elements);
+            }
+        };
+
+        private static final int LINEAR_LIMIT = 8;
+        private static final int OPEN_ADDRESSING_LIMIT = 64;
+        private static final int SAMPLE_SIZE = 64;
+
+        /**
+         * Selects the representation of the given {@code elements}, that is chosen by {@link FinalSet#from(Collection)}.
+         */
+        public static Representation select(final Collection<?> elements) {
+            return select(new LinkedHashSet<>(elements).toArray());
+        }
+
+        private static Representation select(final Object[] elements) {
+            if (ENUM_BITS.isApplicable(elements)) {
+                return ENUM_BITS;
+            } else if (LINEAR_LIMIT >= elements.length) {
+                return LINEAR;
+            } else if ((OPEN_ADDRESSING_LIMIT > elements.length) || isPoorlyHashed(elements)) {
+                return SORTED_HASH;
+            } else {
+                return OPEN_ADDRESSING;
+            }
+        }
+
+        /**
+         * Indicates if more than a quarter of an evenly spread sample of the elements share their hash codes with
+         * others of the sample.
+         */
+        private static boolean isPoorlyHashed(final Object[] elements) {
+            final int step = Math.max(1, elements.length / SAMPLE_SIZE);
+            final Set<Integer> hashes = new HashSet<>(2 * SAMPLE_SIZE);
+            int sampled = 0;
+            for (int index = 0; index < elements.length; index += step) {
+                hashes.add(Objects.hashCode(elements[index]));
+                sampled += 1;
+            }
+            return hashes.size() < (sampled - (sampled / 4));
+        }
+
+        abstract Lookup newLookup(Object[] elements);
+
+        boolean isApplicable(final Object[] elements) {
+            return true;
+        }
+
+        private Representation checked(final Object[] elements) {
+            if (isApplicable(elements)) {
+                return this;
+            } else {
+                throw new IllegalArgumentException("representation " + this + " is not applicable to the elements");
+            }
+        }
+    }
+
     @SuppressWarnings("ClassNameSameAsAncestorName")
     private static class InnerSet<E> extends AbstractSet<E> {
         private final Object[] elements;
-        private final Entry[] entries;
+        private final LookupMetrics metrics;
+        private volatile Representation representation;
+        private volatile Lookup lookup;
 
         @SuppressWarnings("TypeMayBeWeakened")
-        private InnerSet(final Set<? extends E> origin) {
-            elements = origin.toArray();
-            entries = newIndex(elements);
+        private InnerSet(final Set<? extends E> origin, final Representation representation, final boolean deferred,
+                         final LookupMetrics metrics) {
+            this.elements = origin.toArray();
+            this.representation = (null == representation) ? null : representation.checked(elements);
+            this.lookup = deferred ? null : representation().newLookup(elements);
+            this.metrics = metrics;
+        }
+
+        private Representation representation() {
+            Representation result = representation;
+            if (null == result) {
+                // The selection is deterministic, so concurrent callers select the same representation ...
+                result = Representation.select(elements);
+                representation = result;
+            }
+            return result;
+        }
+
+        private boolean isIndexed() {
+            return null != lookup;
         }
 
-        private static Entry[] newIndex(final Object[] elements) {
-            final int size = elements.length;
-            final Entry[] result = new Entry[size];
-            for (int index = 0; index < size; ++index) {
-                result[index] = new Entry(Objects.hashCode(elements[index]), index);
+        private Lookup lookup() {
+            Lookup result = lookup;
+            if (null == result) {
+                // Concurrent callers may build equal lookups, any of them is fine to be published ...
+                result = representation().newLookup(elements);
+                lookup = result;
             }
-            Arrays.sort(result, ORDER);
             return result;
         }
 
-        @SuppressWarnings({"RefusedBequest", "AccessingNonPublicFieldOfAnotherObject"})
+        private Footprint.Builder footprint(final Footprint.Builder builder) {
+            // <core> of the FinalSet and the InnerSet itself (<elements>, <representation>, <metrics> and <lookup>) ...
+            builder.fields(1, 0)
+                    .objects("core", 1, 4, 0)
+                    .array("elements", elements.length, Footprint.REFERENCE);
+            final Lookup current = lookup;
+            return (null == current) ? builder : current.footprint(builder);
+        }
+
+        private IndexStatistics statistics() {
+            return IndexStatistics.of(Arrays.asList(elements));
+        }
+
+        @SuppressWarnings("RefusedBequest")
         @Override
         public final boolean contains(final Object other) {
-            if (0 == elements.length) {
-                return false;
-            } // else ...
-
-            if (1 == elements.length) {
-                return Objects.equals(elements[0], other);
+            if (LookupMetrics.NONE == metrics) {
+                return 0 <= lookup().search(elements, other);
             } // else ...
 
-            final int otherHash = Objects.hashCode(other);
-
-            int lower = 0;
-            int lowerHash = entries[lower].hash;
-            if (otherHash < lowerHash) return false;
-
-            int higher = entries.length - 1;
-            int higherHash = entries[higher].hash;
-            if (higherHash < otherHash) return false;
-
-            while ((lowerHash < otherHash) && (otherHash <= higherHash)) {
-                //noinspection NumericCastThatLosesPrecision,UnnecessaryExplicitNumericCast
-                final int middle = (int) (((long) lower + (long) higher) / 2L);
-                if (lower == middle) {
-                    lower = higher;
-                    lowerHash = higherHash;
-
-                } else {
-                    final int middleHash = entries[middle].hash;
-                    if (middleHash < otherHash) {
-                        lower = middle;
-                        lowerHash = middleHash;
-                    } else {
-                        higher = middle;
-                        higherHash = middleHash;
-                    }
-                }
-            }
-
-            while (lowerHash == otherHash) {
-                if (Objects.equals(other, elements[entries[lower].index])) {
-                    return true;
-                } else {
-                    lower += 1;
-                    lowerHash = entries[lower].hash;
-                }
-            }
-            return false;
+            final long start = metrics.start();
+            final int result = lookup().search(elements, other);
+            final boolean hit = 0 <= result;
+            metrics.onLookup(hit, hit ? result : ~result, start);
+            return hit;
         }
 
         @Override
@@ -181,23 +406,4 @@ public class FinalSet<E> extends FinalCollection<E, Set<E>> implements Set<E> {
             }
         }
     }
-
-    private static class Entry {
-        private final int hash;
-        private final int index;
-
-        private Entry(final int hash, final int index) {
-            this.hash = hash;
-            this.index = index;
-        }
-    }
-
-    @SuppressWarnings({"AccessingNonPublicFieldOfAnotherObject", "ComparatorNotSerializable"})
-    private static class Order implements Comparator<Entry> {
-        @Override
-        public final int compare(final Entry o1, final Entry o2) {
-            final int result = Integer.compare(o1.hash, o2.hash);
-            return (0 == result) ? Integer.compare(o1.index, o2.index) : result;
-        }
-    }
 }
@@ -0,0 +1,203 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Represents an estimation of the memory retained by a collection, broken down into its parts (the instance itself,
+ * its arrays, its entries, etc.), intended to compare the costs of different representations.
+ * <p/>
+ * The estimation assumes a typical HotSpot layout: object headers of 12 bytes and references of 4 bytes on a
+ * 64 bit JVM with compressed references (heaps below 32 GB), 16 and 8 bytes without, each object aligned to 8 bytes.
+ * It does not take field packing or padding inherited from super classes into account, so it may deviate by a few
+ * bytes per object.
+ * <p/>
+ * The elements themselves are not part of the structure. They are only taken into account if their sizes are
+ * given explicitly, each distinct element (by identity) counted once.
+ * <p/>
+ * Retrieve an instance by ...
+ * <ul>
+ * <li>{@link FinalList#footprint()}</li>
+ * <li>{@link FinalIndexList#footprint()}</li>
+ * <li>{@link FinalSet#footprint()}</li>
+ * <li>{@link Index#footprint()}</li>
+ * <li>{@link #ofHashSet(int)} or {@link #ofArrayList(int)} to compare with</li>
+ * </ul>
+ */
+public final class Footprint {
+
+    static final int INT = 4;
+    static final int REFERENCE = Layout.REFERENCE;
+
+    private static final String INSTANCE = "instance";
+
+    private final Map<String, Long> parts;
+    private final long elementBytes;
+
+    private Footprint(final Map<String, Long> parts, final long elementBytes) {
+        this.parts = Collections.unmodifiableMap(parts);
+        this.elementBytes = elementBytes;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Supplies the estimated footprint of a {@link java.util.HashSet} of a given {@code size} that has been
+     * filled without specifying an initial capacity.
+     */
+    public static Footprint ofHashSet(final int size) {
+        int capacity = 16;
+        while ((capacity / 4 * 3) < size) {
+            capacity <<= 1;
+        }
+        final Builder result = builder()
+                .fields(1, 0)
+                .part("map", object(4, 4));
+        // The table is not allocated until the first element is added ...
+        return ((0 == size) ? result : result.array("table", capacity, REFERENCE))
+                .objects("nodes", size, 3, 1)
+                .build();
+    }
+
+    /**
+     * Supplies the estimated footprint of an {@link java.util.ArrayList} of a given {@code size} whose capacity
+     * has been trimmed to its size.
+     */
+    public static Footprint ofArrayList(final int size) {
+        return builder()
+                .fields(1, 2)
+                .array("elements", size, REFERENCE)
+                .build();
+    }
+
+    private static long align(final long bytes) {
+        return ((bytes + Layout.ALIGNMENT - 1) / Layout.ALIGNMENT) * Layout.ALIGNMENT;
+    }
+
+    /**
+     * Retrieves the estimated size of an object with a given number of {@code references} and {@code ints}
+     * (or other 32 bit fields).
+     */
+    static long object(final int references, final int ints) {
+        return align(Layout.HEADER + ((long) references * REFERENCE) + ((long) ints * INT));
+    }
+
+    /**
+     * Retrieves the estimated size of an array with a given {@code length} and size of its components.
+     */
+    static long array(final int length, final int componentBytes) {
+        return align(Layout.HEADER + INT + ((long) length * componentBytes));
+    }
+
+    /**
+     * Retrieves the estimated bytes of the parts of the structure, starting with the instance itself.
+     */
+    public final Map<String, Long> getParts() {
+        return parts;
+    }
+
+    /**
+     * Retrieves the estimated bytes of the whole structure, excluding the elements.
+     */
+    public final long getStructureBytes() {
+        long result = 0;
+        for (final long bytes : parts.values()) {
+            result += bytes;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the bytes of the elements as given, or {@code 0} if not given.
+     */
+    public final long getElementBytes() {
+        return elementBytes;
+    }
+
+    /**
+     * Retrieves the estimated bytes of the whole structure including the elements (as far as given).
+     */
+    public final long getTotalBytes() {
+        return getStructureBytes() + elementBytes;
+    }
+
+    @Override
+    public final String toString() {
+        return format("Footprint{structureBytes=%d, elementBytes=%d, parts=%s}",
+                getStructureBytes(), elementBytes, parts);
+    }
+
+    /**
+     * Collects the parts of a {@link Footprint}.
+     */
+    static final class Builder {
+        private final Map<String, Long> parts = new LinkedHashMap<>(0);
+        private int references = 0;
+        private int ints = 0;
+        private long elementBytes = 0;
+
+        private Builder() {
+            parts.put(INSTANCE, 0L);
+        }
+
+        /**
+         * Adds fields to the instance itself.
+         */
+        final Builder fields(final int references, final int ints) {
+            this.references += references;
+            this.ints += ints;
+            return this;
+        }
+
+        final Builder part(final String name, final long bytes) {
+            final Long former = parts.get(name);
+            parts.put(name, (null == former) ? bytes : (former + bytes));
+            return this;
+        }
+
+        final Builder array(final String name, final int length, final int componentBytes) {
+            return part(name, Footprint.array(length, componentBytes));
+        }
+
+        final Builder objects(final String name, final int count, final int references, final int ints) {
+            return part(name, count * object(references, ints));
+        }
+
+        final <E> Builder elements(final Iterable<? extends E> elements, final Function<? super E, Long> bytes) {
+            final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>(0));
+            for (final E element : elements) {
+                if ((null != element) && counted.add(element)) {
+                    elementBytes += bytes.apply(element);
+                }
+            }
+            return this;
+        }
+
+        final Footprint build() {
+            final Map<String, Long> result = new LinkedHashMap<>(parts);
+            result.put(INSTANCE, object(references, ints));
+            return new Footprint(result, elementBytes);
+        }
+    }
+
+    private static final class Layout {
+        private static final boolean WIDE = "64".equals(System.getProperty("sun.arch.data.model"))
+                || System.getProperty("os.arch", "").contains("64");
+        private static final boolean COMPRESSED = WIDE && (Runtime.getRuntime().maxMemory() < (32L << 30));
+        private static final int HEADER = WIDE ? (COMPRESSED ? 12 : 16) : 8;
+        private static final int REFERENCE = (WIDE && !COMPRESSED) ? 8 : 4;
+        private static final int ALIGNMENT = 8;
+
+        private Layout() {
+        }
+    }
+}
@@ -21,17 +21,29 @@ public class Index {
     private final List<?> subject;
     private final int[] indexes;
     private final int[] hashes;
+    private final LookupMetrics metrics;
 
     /**
      * Initiates a new instance for a specific {@link List subject} that must not be modified (nor its content)
      * while the new instance is in use.
      */
-    @SuppressWarnings({"AccessingNonPublicFieldOfAnotherObject", "ProhibitedExceptionCaught"})
     public Index(final List<?> subject) {
+        this(subject, LookupMetrics.NONE);
+    }
+
+    /**
+     * Initiates a new instance for a specific {@link List subject} that must not be modified (nor its content)
+     * while the new instance is in use. Reports each lookup to the given {@link LookupMetrics}.
+     */
+    @SuppressWarnings({"AccessingNonPublicFieldOfAnotherObject", "ProhibitedExceptionCaught"})
+    public Index(final List<?> subject, final LookupMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
         try {
-            final Entries entries = new Entries(subject.iterator(), subject.size());
+            final BuildTimer timer = BuildTimer.start();
+            final Entries entries = new Entries(subject.iterator(), subject.size(), timer);
             indexes = entries.indexes;
             hashes = entries.hashes;
+            timer.stop(Index.class, hashes.length);
 
             // Intended to associate the underlying list itself (and not to instantiate anything new) ...
             // noinspection AssignmentToCollectionOrArrayFieldFromParameter
@@ -44,7 +56,9 @@ public class Index {
 
     @SuppressWarnings({"ReturnOfNull", "MethodWithMultipleLoops"})
     private int entry(final Direction direction, final Object other, final int otherHash) {
+        final long start = (LookupMetrics.NONE == metrics) ? LookupMetrics.NOT_SAMPLED : metrics.start();
         final int size = hashes.length;
+        int probes = 0;
         if (0 < size) {
             int left = direction.leftmost(size);
             int right = direction.rightmost(size);
@@ -63,15 +77,23 @@ public class Index {
                 }
             }
 
-            while ((left < size) && (hashes[left] == otherHash)) {
+            while ((0 <= left) && (left < size) && (hashes[left] == otherHash)) {
+                probes += 1;
                 if (Objects.equals(other, subject.get(indexes[left]))) {
-                    return left;
+                    return report(left, probes, start);
                 } else {
                     left = direction.next(left);
                 }
             }
         }
-        return -1;
+        return report(-1, probes, start);
+    }
+
+    private int report(final int entry, final int probes, final long start) {
+        if (LookupMetrics.NONE != metrics) {
+            metrics.onLookup(0 <= entry, probes, start);
+        }
+        return entry;
     }
 
     /**
@@ -100,6 +122,24 @@ public class Index {
         return 0 <= entry((0 < hash) ? Direction.REVERSE : Direction.FORWARD, o, hash);
     }
 
+    /**
+     * Supplies an estimation of the memory retained by this index itself, excluding the associated {@link List}.
+     */
+    public final Footprint footprint() {
+        return Footprint.builder()
+                .fields(4, 0)
+                .array("hashes", hashes.length, Footprint.INT)
+                .array("indexes", indexes.length, Footprint.INT)
+                .build();
+    }
+
+    /**
+     * Supplies statistics about the hash codes of the elements of the associated {@link List}.
+     */
+    public final IndexStatistics statistics() {
+        return IndexStatistics.ofSorted(hashes);
+    }
+
     private int number(final Direction direction, final Object other) {
         final int entry = entry(direction, other, Objects.hashCode(other));
         return (0 > entry) ? -1 : indexes[entry];
@@ -166,10 +206,10 @@ public class Index {
         private final int[] indexes;
 
         @SuppressWarnings("ProhibitedExceptionDeclared")
-        private Entries(final Iterator<?> origin, final int size)
+        private Entries(final Iterator<?> origin, final int size, final BuildTimer timer)
                 throws NoSuchElementException, ArrayIndexOutOfBoundsException {
 
-            final long[] entries = newEntries(origin, size);
+            final long[] entries = newEntries(origin, size, timer);
             hashes = new int[size];
             indexes = new int[size];
             for (int index = 0; index < size; ++index) {
@@ -178,12 +218,14 @@ public class Index {
             }
         }
 
-        private static long[] newEntries(final Iterator<?> origin, final int size) {
+        private static long[] newEntries(final Iterator<?> origin, final int size, final BuildTimer timer) {
             final long[] entries = new long[size];
             for (int index = 0; (index < size) || origin.hasNext(); ++index) {
                 entries[index] = toLong(Objects.hashCode(origin.next()), index);
             }
+            timer.sorting();
             Arrays.sort(entries);
+            timer.sorted();
             return entries;
         }
 
@@ -0,0 +1,153 @@
+package net.team33.basics.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Represents statistics about the hash codes of the elements of an {@link Index}, a {@link FinalIndexList} or a
+ * {@link FinalSet}, intended to detect poor {@link Object#hashCode()} implementations.
+ * <p/>
+ * An {@link Index}, a {@link FinalIndexList} and a {@link FinalSet} {@linkplain FinalSet.Representation#SORTED_HASH
+ * sorted by hash} locate an element by a binary search for its hash code followed by a linear scan through all
+ * elements with the same hash code (a <em>run</em>), comparing each of them by {@link Object#equals(Object)}.
+ * So long runs directly degrade their lookups.
+ * <p/>
+ * {@link FinalSet#statistics()} reports the same figures for any other {@linkplain FinalSet.Representation
+ * representation}, where they mean something different: {@link FinalSet.Representation#LINEAR LINEAR} and
+ * {@link FinalSet.Representation#ENUM_BITS ENUM_BITS} don't use hash codes at all, so runs don't affect them.
+ * An {@link FinalSet.Representation#OPEN_ADDRESSING OPEN_ADDRESSING} lookup compares each element of a run as well,
+ * but also passes the slots that are occupied by other hash codes in between, so long runs degrade it even worse
+ * than they indicate.
+ * <p/>
+ * Retrieve an instance by ...
+ * <ul>
+ * <li>{@link Index#statistics()}</li>
+ * <li>{@link FinalIndexList#statistics()}</li>
+ * <li>{@link FinalSet#statistics()}</li>
+ * <li>{@link #of(Collection)} to examine any data in advance</li>
+ * </ul>
+ */
+public final class IndexStatistics {
+
+    private final int size;
+    private final int distinct;
+    private final int longestRun;
+    private final long squaredRuns;
+    private final int[] histogram;
+
+    private IndexStatistics(final int size, final int distinct, final int longestRun, final long squaredRuns,
+                            final int[] histogram) {
+        this.size = size;
+        this.distinct = distinct;
+        this.longestRun = longestRun;
+        this.squaredRuns = squaredRuns;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Supplies the statistics of the hash codes of the given {@code elements}.
+     */
+    public static IndexStatistics of(final Collection<?> elements) {
+        final int[] hashes = new int[elements.size()];
+        int index = 0;
+        for (final Object element : elements) {
+            //noinspection ValueOfIncrementOrDecrementUsed
+            hashes[index++] = Objects.hashCode(element);
+        }
+        Arrays.sort(hashes);
+        return ofSorted(hashes);
+    }
+
+    /**
+     * Supplies the statistics of given hash codes, that are expected to be sorted in ascending order.
+     */
+    @SuppressWarnings("MethodWithMultipleLoops")
+    static IndexStatistics ofSorted(final int[] hashes) {
+        final int size = hashes.length;
+        final int[] histogram = new int[Integer.SIZE];
+        int distinct = 0;
+        int longestRun = 0;
+        long squaredRuns = 0;
+        int start = 0;
+        while (start < size) {
+            int end = start + 1;
+            while ((end < size) && (hashes[end] == hashes[start])) {
+                end += 1;
+            }
+            final int run = end - start;
+            distinct += 1;
+            longestRun = Math.max(longestRun, run);
+            squaredRuns += (long) run * (run + 1);
+            histogram[Integer.SIZE - 1 - Integer.numberOfLeadingZeros(run)] += 1;
+            start = end;
+        }
+        return new IndexStatistics(size, distinct, longestRun, squaredRuns, histogram);
+    }
+
+    /**
+     * Retrieves the number of elements (including duplicates, in case of a {@link java.util.List List}).
+     */
+    public final int getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of distinct hash codes.
+     */
+    public final int getDistinctHashes() {
+        return distinct;
+    }
+
+    /**
+     * Retrieves the length of the longest run of elements sharing the same hash code.
+     */
+    public final int getLongestRun() {
+        return longestRun;
+    }
+
+    /**
+     * Retrieves the average length of a run of elements sharing the same hash code ({@code 1.0} is ideal).
+     */
+    public final double getAverageRun() {
+        return (0 == distinct) ? 0.0 : ((double) size / distinct);
+    }
+
+    /**
+     * Retrieves the (maximum) number of steps of the binary search for a hash code.
+     */
+    public final int getSearchDepth() {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Retrieves the expected number of {@link Object#equals(Object)} comparisons to locate an element that is
+     * contained, assuming each element is looked up equally often ({@code 1.0} is ideal).
+     */
+    public final double getExpectedProbes() {
+        // A run of length r costs (1 + 2 + ... + r) = r * (r + 1) / 2 probes for its r elements ...
+        return (0 == size) ? 0.0 : ((double) squaredRuns / 2.0 / size);
+    }
+
+    /**
+     * Retrieves a histogram of the run lengths: the element at index {@code k} is the number of runs with a length
+     * of {@code 2^k} up to {@code 2^(k+1) - 1}. Trailing zeros are omitted.
+     */
+    public final int[] getRunHistogram() {
+        int length = histogram.length;
+        while ((0 < length) && (0 == histogram[length - 1])) {
+            length -= 1;
+        }
+        return Arrays.copyOf(histogram, length);
+    }
+
+    @Override
+    public final String toString() {
+        return format("IndexStatistics{size=%d, distinctHashes=%d, longestRun=%d, averageRun=%.2f, searchDepth=%d, " +
+                        "expectedProbes=%.2f, runHistogram=%s}",
+                size, distinct, longestRun, getAverageRun(), getSearchDepth(), getExpectedProbes(),
+                Arrays.toString(getRunHistogram()));
+    }
+}
@@ -1,7 +1,12 @@
 package net.team33.basics.collections;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.ListIterator;
+
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Implements an instrument to initialize a {@link List} in a declarative style.
@@ -112,9 +117,336 @@ public class Lister<E, L extends List<E>, R extends Lister<E, L, R>> extends Col
         return cast(this);
     }
 
+    /**
+     * Supplies a new {@link Batch} to record positional modifications of the underlying {@link #subject}
+     * and finally {@linkplain Batch#apply() apply} them all at once.
+     * <p/>
+     * Mentioned for bulk editing sessions with many inserts or removals in the middle of the {@link #subject}:
+     * when applied directly, each of them would shift the subsequent elements (e.g. of an {@link java.util.ArrayList})
+     * while a {@link Batch} applies them in a single pass.
+     */
+    public final Batch<E, L, R> batch() {
+        return new Batch<>(this);
+    }
+
+    /**
+     * Supplies a new {@link Cursor} to sequentially modify the underlying {@link #subject},
+     * initially positioned at its beginning.
+     * <p/>
+     * Mentioned for editing sessions with sequential access to a {@link java.util.LinkedList}:
+     * when applied by index, each modification would walk through the list to locate the position
+     * while a {@link Cursor} just moves on from its current position.
+     */
+    public final Cursor<E, L, R> cursor() {
+        return new Cursor<>(this);
+    }
+
     private static class Simple<E, L extends List<E>> extends Lister<E, L, Simple<E, L>> {
         private Simple(final L subject) {
             super(subject);
         }
     }
+
+    /**
+     * Implements an instrument to record positional modifications of the {@link Lister#subject subject} of a
+     * {@link Lister} in a declarative style, to finally {@linkplain #apply() apply} them all at once.
+     * <p/>
+     * Any {@code index} refers to the {@link Lister#subject subject} as it would be if all modifications recorded
+     * so far had been applied, just as if they were applied directly through the {@link Lister}.
+     * Recording a modification costs {@code O(log k)} (expected) where {@code k} is the number of modifications
+     * recorded so far. {@linkplain #apply() Applying} them finally costs {@code O(n + k)}.
+     * <p/>
+     * The {@link Lister#subject subject} is not modified until the recorded modifications are
+     * {@linkplain #apply() applied} and must not be modified otherwise in the meantime.
+     * Recorded modifications that are not {@linkplain #apply() applied} are discarded: reading the
+     * {@link Lister#subject subject} or building a result from it does not apply them.
+     *
+     * @param <E> The element type of the {@link List} to be modified.
+     * @param <L> The type of the {@link List} to be modified.
+     * @param <R> The finally intended type of the associated {@link Lister}.
+     */
+    @SuppressWarnings({"PublicInnerClass", "ReturnOfThis"})
+    public static class Batch<E, L extends List<E>, R extends Lister<E, L, R>> {
+
+        private final Lister<E, L, R> lister;
+        private Patch patch;
+
+        private Batch(final Lister<E, L, R> lister) {
+            this.lister = requireNonNull(lister);
+            this.patch = new Patch(lister.subject.size());
+        }
+
+        /**
+         * Records {@link List#add(int, Object)}.
+         *
+         * @return The {@code Batch} itself.
+         * @throws IndexOutOfBoundsException if the {@code index} is out of range: <tt>0 &lt;= index &lt;= size()</tt>
+         */
+        public final Batch<E, L, R> add(final int index, final E element) {
+            patch.add(index, element);
+            return this;
+        }
+
+        /**
+         * Records {@link List#addAll(int, Collection)}.
+         *
+         * @return The {@code Batch} itself.
+         * @throws NullPointerException      if the {@link Collection} of {@code elements} is {@code null}.
+         * @throws IndexOutOfBoundsException if the {@code index} is out of range: <tt>0 &lt;= index &lt;= size()</tt>
+         */
+        public final Batch<E, L, R> addAll(final int index, final Collection<? extends E> elements) {
+            patch.addAll(index, elements);
+            return this;
+        }
+
+        /**
+         * Records {@link List#addAll(int, Collection)}.
+         *
+         * @return The {@code Batch} itself.
+         * @throws NullPointerException      if the {@code array} of {@code elements} is {@code null}.
+         * @throws IndexOutOfBoundsException if the {@code index} is out of range: <tt>0 &lt;= index &lt;= size()</tt>
+         */
+        @SafeVarargs
+        public final Batch<E, L, R> addAlt(final int index, final E... elements) {
+            return addAll(index, asList(elements));
+        }
+
+        /**
+         * Records {@link List#remove(int)}.
+         *
+         * @return The {@code Batch} itself.
+         * @throws IndexOutOfBoundsException if the {@code index} is out of range: <tt>0 &lt;= index &lt; size()</tt>
+         */
+        public final Batch<E, L, R> remove(final int index) {
+            patch.remove(index);
+            return this;
+        }
+
+        /**
+         * Records {@link List#set(int, Object)}.
+         *
+         * @return The {@code Batch} itself.
+         * @throws IndexOutOfBoundsException if the {@code index} is out of range: <tt>0 &lt;= index &lt; size()</tt>
+         */
+        public final Batch<E, L, R> set(final int index, final E element) {
+            patch.set(index, element);
+            return this;
+        }
+
+        /**
+         * Retrieves the size the {@link Lister#subject subject} will have when the recorded modifications are
+         * {@linkplain #apply() applied}.
+         */
+        public final int size() {
+            return patch.size();
+        }
+
+        /**
+         * Applies the recorded modifications to the {@link Lister#subject subject} in a single pass.
+         * The {@code Batch} may be used for further modifications afterwards.
+         * <p/>
+         * If the {@link Lister#subject subject} rejects the result, its original content is restored and the recorded
+         * modifications are kept.
+         *
+         * @return The associated {@link Lister} in its finally intended representation. Of course not {@code null}.
+         * @throws ConcurrentModificationException if the {@link Lister#subject subject} has been modified otherwise
+         *                                         in the meantime (as far as detectable).
+         * @throws UnsupportedOperationException   if {@link List#clear()} or {@link List#addAll(Collection)} is not
+         *                                         supported by the {@link Lister#subject subject}.
+         * @throws ClassCastException              if the class of some recorded elements prevents them from being added
+         *                                         to the {@link Lister#subject subject}
+         *                                         (may occur only if used raw or forced in a mismatched class
+         *                                         context).
+         * @throws NullPointerException            if some recorded elements are {@code null} and the
+         *                                         {@link Lister#subject subject} does not permit {@code null}
+         *                                         elements.
+         * @throws IllegalArgumentException        if some property of some recorded elements prevents them from being
+         *                                         added to the {@link Lister#subject subject}.
+         */
+        public final R apply() {
+            final Object[] origin = lister.subject.toArray();
+            final Object[] result = patch.applyTo(origin);
+            lister.subject.clear();
+            try {
+                replace(result);
+            } catch (final RuntimeException caught) {
+                lister.subject.clear();
+                replace(origin);
+                throw caught;
+            }
+            patch = new Patch(lister.subject.size());
+            return cast(lister);
+        }
+
+        private void replace(final Object[] elements) {
+            // There is no regular way to record an element that is not an instance of <E> ...
+            // noinspection unchecked
+            lister.subject.addAll((List<E>) (List<?>) asList(elements));
+        }
+    }
+
+    /**
+     * Implements an instrument to sequentially modify the {@link Lister#subject subject} of a {@link Lister}
+     * in a declarative style, based on a {@link ListIterator}.
+     * <p/>
+     * A {@code Cursor} is positioned between two elements of the {@link Lister#subject subject}, just like a
+     * {@link ListIterator}. Any modification takes place at that position and costs {@code O(1)} (as far as supported
+     * by the {@link Lister#subject subject}'s {@link ListIterator}), moving the position costs {@code O(distance)}.
+     * <p/>
+     * The {@link Lister#subject subject} must not be modified otherwise while the {@code Cursor} is in use.
+     *
+     * @param <E> The element type of the {@link List} to be modified.
+     * @param <L> The type of the {@link List} to be modified.
+     * @param <R> The finally intended type of the associated {@link Lister}.
+     */
+    @SuppressWarnings({"PublicInnerClass", "ReturnOfThis"})
+    public static class Cursor<E, L extends List<E>, R extends Lister<E, L, R>> {
+
+        private static final String ILLEGAL_INDEX = "Index: %d, Size: %d";
+
+        private final Lister<E, L, R> lister;
+        private ListIterator<E> iterator;
+
+        private Cursor(final Lister<E, L, R> lister) {
+            this.lister = requireNonNull(lister);
+            this.iterator = lister.subject.listIterator();
+        }
+
+        /**
+         * Retrieves the index of the element that immediately follows the current position.
+         */
+        public final int index() {
+            return iterator.nextIndex();
+        }
+
+        /**
+         * Moves the position just before the element with the given {@code index}.
+         * <p/>
+         * Costs {@code O(distance)}, where the distance is the lower of the one from the current position
+         * and the one from the nearer end of the {@link Lister#subject subject}.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws IndexOutOfBoundsException if the {@code index} is out of range: <tt>0 &lt;= index &lt;= size()</tt>
+         */
+        public final Cursor<E, L, R> moveTo(final int index) {
+            final int size = lister.subject.size();
+            if ((0 > index) || (size < index)) {
+                throw new IndexOutOfBoundsException(String.format(ILLEGAL_INDEX, index, size));
+            }
+            if (Math.abs(index - iterator.nextIndex()) > Math.min(index, size - index)) {
+                iterator = lister.subject.listIterator(index);
+            }
+            while (iterator.nextIndex() < index) {
+                iterator.next();
+            }
+            while (iterator.nextIndex() > index) {
+                iterator.previous();
+            }
+            return this;
+        }
+
+        /**
+         * Moves the position forward by the given {@code count} of elements.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws IndexOutOfBoundsException if the resulting position is out of range.
+         */
+        public final Cursor<E, L, R> skip(final int count) {
+            return moveTo(iterator.nextIndex() + count);
+        }
+
+        /**
+         * Inserts an {@code element} at the current position, which afterwards is behind the inserted element.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws UnsupportedOperationException if {@link ListIterator#add(Object)} is not supported by the
+         *                                       {@link Lister#subject subject}'s {@link ListIterator}.
+         * @see ListIterator#add(Object)
+         */
+        public final Cursor<E, L, R> add(final E element) {
+            iterator.add(element);
+            return this;
+        }
+
+        /**
+         * Inserts some {@code elements} at the current position, which afterwards is behind the inserted elements.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws UnsupportedOperationException if {@link ListIterator#add(Object)} is not supported by the
+         *                                       {@link Lister#subject subject}'s {@link ListIterator}.
+         * @throws NullPointerException          if the {@link Iterable} of {@code elements} is {@code null}.
+         * @see ListIterator#add(Object)
+         */
+        public final Cursor<E, L, R> addAll(final Iterable<? extends E> elements) {
+            for (final E element : elements) {
+                iterator.add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Inserts some {@code elements} at the current position, which afterwards is behind the inserted elements.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws UnsupportedOperationException if {@link ListIterator#add(Object)} is not supported by the
+         *                                       {@link Lister#subject subject}'s {@link ListIterator}.
+         * @throws NullPointerException          if the {@code array} of {@code elements} is {@code null}.
+         * @see ListIterator#add(Object)
+         */
+        @SafeVarargs
+        public final Cursor<E, L, R> addAlt(final E... elements) {
+            return addAll(asList(elements));
+        }
+
+        /**
+         * Replaces the element that immediately follows the current position,
+         * which afterwards is behind the replaced element.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws UnsupportedOperationException if {@link ListIterator#set(Object)} is not supported by the
+         *                                       {@link Lister#subject subject}'s {@link ListIterator}.
+         * @throws IndexOutOfBoundsException     if the current position is at the end of the
+         *                                       {@link Lister#subject subject}.
+         * @see ListIterator#set(Object)
+         */
+        public final Cursor<E, L, R> set(final E element) {
+            next();
+            iterator.set(element);
+            return this;
+        }
+
+        /**
+         * Removes the element that immediately follows the current position.
+         *
+         * @return The {@code Cursor} itself.
+         * @throws UnsupportedOperationException if {@link ListIterator#remove()} is not supported by the
+         *                                       {@link Lister#subject subject}'s {@link ListIterator}.
+         * @throws IndexOutOfBoundsException     if the current position is at the end of the
+         *                                       {@link Lister#subject subject}.
+         * @see ListIterator#remove()
+         */
+        public final Cursor<E, L, R> remove() {
+            next();
+            iterator.remove();
+            return this;
+        }
+
+        private void next() {
+            if (iterator.hasNext()) {
+                iterator.next();
+            } else {
+                throw new IndexOutOfBoundsException(
+                        String.format(ILLEGAL_INDEX, iterator.nextIndex(), lister.subject.size()));
+            }
+        }
+
+        /**
+         * Finishes the sequential modification.
+         *
+         * @return The associated {@link Lister} in its finally intended representation. Of course not {@code null}.
+         */
+        public final R done() {
+            return cast(lister);
+        }
+    }
 }
@@ -0,0 +1,262 @@
+package net.team33.basics.collections;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Abstracts the lookup structure of a {@link FinalSet}, that locates an element within an array of (distinct)
+ * elements. It does not hold the elements itself.
+ *
+ * @see FinalSet.Representation
+ */
+abstract class Lookup {
+
+    static final Lookup LINEAR = new Linear();
+
+    /**
+     * Returns the number of elements compared with {@code other} if found (which is {@code 0} or more), its
+     * complement ({@code ~probes}, which is negative) otherwise.
+     */
+    abstract int search(Object[] elements, Object other);
+
+    /**
+     * Adds the structure of this lookup to a {@link Footprint.Builder}.
+     */
+    abstract Footprint.Builder footprint(Footprint.Builder builder);
+
+    /**
+     * Compares each element in turn, intended for tiny sets.
+     */
+    private static final class Linear extends Lookup {
+        @Override
+        final int search(final Object[] elements, final Object other) {
+            for (int index = 0; index < elements.length; ++index) {
+                if (Objects.equals(other, elements[index])) {
+                    return index + 1;
+                }
+            }
+            return ~elements.length;
+        }
+
+        @Override
+        final Footprint.Builder footprint(final Footprint.Builder builder) {
+            // A single shared instance, nothing to add ...
+            return builder;
+        }
+    }
+
+    /**
+     * A bit set by ordinal, applicable to enum constants of a single enum type.
+     * Does not compare any elements at all.
+     */
+    static final class EnumBits extends Lookup {
+        private final Class<?> type;
+        private final long[] bits;
+
+        EnumBits(final Object[] elements) {
+            type = ((Enum<?>) elements[0]).getDeclaringClass();
+            bits = new long[(type.getEnumConstants().length + Long.SIZE - 1) / Long.SIZE];
+            for (final Object element : elements) {
+                final int ordinal = ((Enum<?>) element).ordinal();
+                bits[ordinal / Long.SIZE] |= 1L << ordinal;
+            }
+        }
+
+        /**
+         * Indicates if the given {@code elements} are applicable, which means they are not empty and consist of
+         * enum constants of a single enum type.
+         */
+        static boolean isApplicable(final Object[] elements) {
+            if ((0 == elements.length) || !(elements[0] instanceof Enum)) {
+                return false;
+            } // else ...
+
+            final Class<?> type = ((Enum<?>) elements[0]).getDeclaringClass();
+            for (final Object element : elements) {
+                if (!(element instanceof Enum) || (type != ((Enum<?>) element).getDeclaringClass())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        final int search(final Object[] elements, final Object other) {
+            if ((other instanceof Enum) && (type == ((Enum<?>) other).getDeclaringClass())) {
+                final int ordinal = ((Enum<?>) other).ordinal();
+                return (0 == (bits[ordinal / Long.SIZE] & (1L << ordinal))) ? ~0 : 0;
+            } else {
+                return ~0;
+            }
+        }
+
+        @Override
+        final Footprint.Builder footprint(final Footprint.Builder builder) {
+            return builder.objects("lookup", 1, 2, 0)
+                    .array("bits", bits.length, Long.SIZE / Byte.SIZE);
+        }
+    }
+
+    /**
+     * Entries of hash code and index sorted by hash code, located by a binary search.
+     * Degrades gracefully if many elements share their hash codes.
+     */
+    static final class SortedHash extends Lookup {
+        private static final Comparator<Entry> ORDER = new Order();
+
+        private final Entry[] entries;
+
+        SortedHash(final Object[] elements) {
+            final BuildTimer timer = BuildTimer.start();
+            final int size = elements.length;
+            entries = new Entry[size];
+            for (int index = 0; index < size; ++index) {
+                entries[index] = new Entry(Objects.hashCode(elements[index]), index);
+            }
+            timer.sorting();
+            Arrays.sort(entries, ORDER);
+            timer.sorted();
+            timer.stop(FinalSet.class, size);
+        }
+
+        @SuppressWarnings("AccessingNonPublicFieldOfAnotherObject")
+        @Override
+        final int search(final Object[] elements, final Object other) {
+            if (0 == entries.length) {
+                return ~0;
+            } // else ...
+
+            final int otherHash = Objects.hashCode(other);
+
+            int lower = 0;
+            int lowerHash = entries[lower].hash;
+            if (otherHash < lowerHash) return ~0;
+
+            int higher = entries.length - 1;
+            int higherHash = entries[higher].hash;
+            if (higherHash < otherHash) return ~0;
+
+            while ((lowerHash < otherHash) && (otherHash <= higherHash)) {
+                //noinspection NumericCastThatLosesPrecision,UnnecessaryExplicitNumericCast
+                final int middle = (int) (((long) lower + (long) higher) / 2L);
+                if (lower == middle) {
+                    lower = higher;
+                    lowerHash = higherHash;
+
+                } else {
+                    final int middleHash = entries[middle].hash;
+                    if (middleHash < otherHash) {
+                        lower = middle;
+                        lowerHash = middleHash;
+                    } else {
+                        higher = middle;
+                        higherHash = middleHash;
+                    }
+                }
+            }
+
+            int probes = 0;
+            while (lowerHash == otherHash) {
+                probes += 1;
+                if (Objects.equals(other, elements[entries[lower].index])) {
+                    return probes;
+                } else {
+                    lower += 1;
+                    lowerHash = (lower < entries.length) ? entries[lower].hash : ~otherHash;
+                }
+            }
+            return ~probes;
+        }
+
+        @Override
+        final Footprint.Builder footprint(final Footprint.Builder builder) {
+            return builder.objects("lookup", 1, 1, 0)
+                    .array("entries", entries.length, Footprint.REFERENCE)
+                    .objects("entry objects", entries.length, 0, 2);
+        }
+
+        private static class Entry {
+            private final int hash;
+            private final int index;
+
+            private Entry(final int hash, final int index) {
+                this.hash = hash;
+                this.index = index;
+            }
+        }
+
+        @SuppressWarnings({"AccessingNonPublicFieldOfAnotherObject", "ComparatorNotSerializable"})
+        private static class Order implements Comparator<Entry> {
+            @Override
+            public final int compare(final Entry o1, final Entry o2) {
+                final int result = Integer.compare(o1.hash, o2.hash);
+                return (0 == result) ? Integer.compare(o1.index, o2.index) : result;
+            }
+        }
+    }
+
+    /**
+     * A hash table with linear probing, filled to at most one half, that locates an element in (expected)
+     * constant time. Degrades badly if many elements share their hash codes.
+     */
+    static final class OpenAddressing extends Lookup {
+        private static final int GOLDEN = 0x9E3779B9;
+
+        private final int[] slots;
+        private final int[] hashes;
+        private final int shift;
+
+        OpenAddressing(final Object[] elements) {
+            final BuildTimer timer = BuildTimer.start();
+            final int capacity = Integer.highestOneBit(Math.max(2, (2 * elements.length) - 1)) << 1;
+            final int mask = capacity - 1;
+            slots = new int[capacity];
+            hashes = new int[capacity];
+            shift = Integer.numberOfLeadingZeros(mask);
+            for (int index = 0; index < elements.length; ++index) {
+                final int hash = Objects.hashCode(elements[index]);
+                int slot = slot(hash);
+                while (0 != slots[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                // A slot holds <index + 1>, so <0> indicates an empty slot ...
+                slots[slot] = index + 1;
+                hashes[slot] = hash;
+            }
+            timer.stop(FinalSet.class, elements.length);
+        }
+
+        private int slot(final int hash) {
+            // Fibonacci hashing spreads consecutive hash codes evenly over the table ...
+            return (hash * GOLDEN) >>> shift;
+        }
+
+        @Override
+        final int search(final Object[] elements, final Object other) {
+            final int mask = slots.length - 1;
+            final int otherHash = Objects.hashCode(other);
+            int probes = 0;
+            int slot = slot(otherHash);
+            int entry = slots[slot];
+            while (0 != entry) {
+                if (hashes[slot] == otherHash) {
+                    probes += 1;
+                    if (Objects.equals(other, elements[entry - 1])) {
+                        return probes;
+                    }
+                }
+                slot = (slot + 1) & mask;
+                entry = slots[slot];
+            }
+            return ~probes;
+        }
+
+        @Override
+        final Footprint.Builder footprint(final Footprint.Builder builder) {
+            return builder.objects("lookup", 1, 2, 1)
+                    .array("slots", slots.length, Footprint.INT)
+                    .array("hashes", hashes.length, Footprint.INT);
+        }
+    }
+}
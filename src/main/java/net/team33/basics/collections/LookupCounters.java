@@ -0,0 +1,161 @@
+package net.team33.basics.collections;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Implementation of {@link LookupMetrics} that counts lookups, hits, misses and probes (calls to
+ * {@link Object#equals(Object)}) and optionally samples the latency of lookups.
+ * <p/>
+ * The counters are striped over multiple cache lines (just like a {@code java.util.concurrent.atomic.LongAdder},
+ * which is not available in Java 7), so threads that look up concurrently rarely contend for the same counter.
+ * Reading a counter sums up its stripes, so it is (slightly) more expensive than updating it, and the results are
+ * not necessarily consistent with each other while lookups are taking place.
+ * <p/>
+ * An instance may be shared by any number of collections, e.g. all of a specific purpose.
+ */
+public class LookupCounters implements LookupMetrics {
+
+    private static final int HITS = 0;
+    private static final int MISSES = 1;
+    private static final int PROBES = 2;
+    private static final int SAMPLES = 3;
+    private static final int NANOS = 4;
+    private static final int COLLISIONS = 5;
+
+    private final Striped counters = new Striped();
+    private final int sampling;
+
+    /**
+     * Initiates a new instance that counts lookups but does not sample their latency.
+     */
+    public LookupCounters() {
+        this(0);
+    }
+
+    /**
+     * Initiates a new instance that counts lookups and samples the latency of about one out of {@code sampling}
+     * lookups. A {@code sampling} of {@code 0} disables sampling.
+     *
+     * @throws IllegalArgumentException if {@code sampling} is negative.
+     */
+    public LookupCounters(final int sampling) {
+        if (0 > sampling) {
+            throw new IllegalArgumentException("sampling must not be negative but was " + sampling);
+        }
+        this.sampling = sampling;
+    }
+
+    @Override
+    public final long start() {
+        return ((0 < sampling) && (0 == ThreadLocalRandom.current().nextInt(sampling)))
+                ? System.nanoTime()
+                : NOT_SAMPLED;
+    }
+
+    @Override
+    public final void onLookup(final boolean hit, final int probes, final long start) {
+        if (NOT_SAMPLED != start) {
+            counters.add(NANOS, System.nanoTime() - start);
+            counters.add(SAMPLES, 1);
+        }
+        counters.add(hit ? HITS : MISSES, 1);
+        counters.add(PROBES, probes);
+        // On a hit the last probe (if any) has been the element in question itself ...
+        counters.add(COLLISIONS, (hit && (0 < probes)) ? (probes - 1) : probes);
+    }
+
+    /**
+     * Retrieves the number of lookups so far.
+     */
+    public final long getLookups() {
+        return getHits() + getMisses();
+    }
+
+    /**
+     * Retrieves the number of lookups so far that have found the element in question.
+     */
+    public final long getHits() {
+        return counters.sum(HITS);
+    }
+
+    /**
+     * Retrieves the number of lookups so far that have not found the element in question.
+     */
+    public final long getMisses() {
+        return counters.sum(MISSES);
+    }
+
+    /**
+     * Retrieves the number of elements compared by {@link Object#equals(Object)} so far.
+     */
+    public final long getProbes() {
+        return counters.sum(PROBES);
+    }
+
+    /**
+     * Retrieves the number of scanned entries that shared the hash code but turned out not to be equal to the
+     * element in question.
+     */
+    public final long getCollisions() {
+        return counters.sum(COLLISIONS);
+    }
+
+    /**
+     * Retrieves the number of lookups whose latency has been sampled.
+     */
+    public final long getSampledLookups() {
+        return counters.sum(SAMPLES);
+    }
+
+    /**
+     * Retrieves the average latency of the sampled lookups in nanoseconds, or {@code 0.0} if none was sampled.
+     */
+    public final double getAverageNanos() {
+        final long samples = getSampledLookups();
+        return (0 == samples) ? 0.0 : ((double) counters.sum(NANOS) / samples);
+    }
+
+    @Override
+    public final String toString() {
+        return format("LookupCounters{lookups=%d, hits=%d, misses=%d, probes=%d, sampledLookups=%d, " +
+                        "averageNanos=%.1f}",
+                getLookups(), getHits(), getMisses(), getProbes(), getSampledLookups(), getAverageNanos());
+    }
+
+    /**
+     * Holds {@value #COUNTERS} counters per stripe, each stripe padded to a cache line of its own.
+     */
+    private static class Striped {
+        private static final int COUNTERS = 6;
+        private static final int SPACING = 16; // 128 bytes, two cache lines to defeat adjacent-line prefetching
+        private static final int STRIPES = stripes();
+
+        private final AtomicLongArray values = new AtomicLongArray(STRIPES * SPACING);
+
+        private static int stripes() {
+            final int processors = Runtime.getRuntime().availableProcessors();
+            return Integer.highestOneBit(Math.max(1, 2 * processors - 1));
+        }
+
+        private static int stripe() {
+            final long id = Thread.currentThread().getId();
+            //noinspection NumericCastThatLosesPrecision
+            return (int) ((id ^ (id >>> 16)) * 0x9E3779B9L >>> 16) & (STRIPES - 1);
+        }
+
+        private void add(final int counter, final long delta) {
+            values.getAndAdd((stripe() * SPACING) + counter, delta);
+        }
+
+        private long sum(final int counter) {
+            long result = 0;
+            for (int stripe = 0; stripe < STRIPES; ++stripe) {
+                result += values.get((stripe * SPACING) + counter);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package net.team33.basics.collections;
+
+/**
+ * Specifies a receiver of lookup events of an {@link Index}, a {@link FinalIndexList} or a {@link FinalSet}
+ * (see {@link Index#Index(java.util.List, LookupMetrics)}, {@link FinalIndexList#monitored(java.util.Collection,
+ * LookupMetrics)} and {@link FinalSet#monitored(java.util.Collection, LookupMetrics)}).
+ * <p/>
+ * An instance is called on every lookup by any thread, so an implementation must be thread-safe and should be as
+ * cheap as possible (see {@link LookupCounters} for a suitable one, that may be exported to a metrics system).
+ * <p/>
+ * Lookups are not monitored at all (not even by calling {@link #NONE}) unless an instance is explicitly specified.
+ */
+public interface LookupMetrics {
+
+    /**
+     * A {@link LookupMetrics} that ignores any event, used as default.
+     */
+    LookupMetrics NONE = new LookupMetrics() {
+        @Override
+        public long start() {
+            return NOT_SAMPLED;
+        }
+
+        @Override
+        public void onLookup(final boolean hit, final int probes, final long start) {
+        }
+    };
+
+    /**
+     * Indicates a lookup whose latency is not sampled.
+     */
+    long NOT_SAMPLED = 0;
+
+    /**
+     * Called at the start of a lookup to decide whether or not its latency should be sampled.
+     *
+     * @return {@link System#nanoTime()} if sampled, otherwise {@link #NOT_SAMPLED}.
+     */
+    long start();
+
+    /**
+     * Called at the end of a lookup.
+     *
+     * @param hit    Indicates if the element in question has been found.
+     * @param probes The number of elements that have been compared by {@link Object#equals(Object)}, which are the
+     *               entries with a matching hash code that have been scanned. May be {@code 0} even on a hit, if the
+     *               lookup does not compare elements at all (e.g. {@link FinalSet.Representation#ENUM_BITS}).
+     * @param start  The result of the related call to {@link #start()}.
+     */
+    void onLookup(boolean hit, int probes, long start);
+}
@@ -0,0 +1,101 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of an immutable {@link List} that represents a {@link FinalList} of original elements,
+ * each of which is converted not until it is actually accessed.
+ * <p/>
+ * In contrast to {@link Collecting#addAll(java.util.Collection, Function, Iterable)} the {@code conversion} is only
+ * applied to the elements that are requested (by {@link #get(int)}, iteration, etc.).
+ * <p/>
+ * To create an instance you can use ...
+ * <ul>
+ * <li>{@link #from(FinalList, Function)} to get a view that applies the {@code conversion} on any access.
+ * The {@code conversion} is expected to be cheap and to supply equal results on repeated application.</li>
+ * <li>{@link #memoizing(FinalList, Function)} to get a view that applies the {@code conversion} at most once per
+ * index and remembers the result.</li>
+ * </ul>
+ *
+ * @param <I> The element type of the original {@link FinalList}.
+ * @param <E> The element type of the {@link MappedList} itself.
+ */
+@SuppressWarnings("ClassWithTooManyMethods")
+public class MappedList<I, E> extends UnmodifiableList<E> implements RandomAccess {
+
+    private final FinalList<? extends I> origin;
+    private final Function<? super I, ? extends E> conversion;
+    private final MemoArray<E> results;
+
+    private MappedList(final FinalList<? extends I> origin, final Function<? super I, ? extends E> conversion,
+                       final boolean memoizing) {
+        this.origin = requireNonNull(origin);
+        this.conversion = requireNonNull(conversion);
+        this.results = memoizing ? results(origin, conversion) : null;
+    }
+
+    private static <I, E> MemoArray<E> results(final FinalList<? extends I> origin,
+                                               final Function<? super I, ? extends E> conversion) {
+        return new MemoArray<>(origin.size(), new Function<Integer, E>() {
+            @Override
+            public E apply(final Integer index) {
+                return conversion.apply(origin.get(index));
+            }
+        });
+    }
+
+    /**
+     * Supplies a new {@link MappedList} that applies a {@code conversion} to an element of the {@code origin}
+     * on each access.
+     */
+    public static <I, E> MappedList<I, E> from(final FinalList<? extends I> origin,
+                                               final Function<? super I, ? extends E> conversion) {
+        return new MappedList<>(origin, conversion, false);
+    }
+
+    /**
+     * Supplies a new {@link MappedList} that applies a {@code conversion} to an element of the {@code origin}
+     * on its first access and remembers the result for any further access.
+     * <p/>
+     * The {@code conversion} is applied at most once per index (if successful), even if accessed concurrently:
+     * concurrent first accesses to the same index wait for its result, while accesses to other indices are not
+     * affected. Remembered results are retrieved lock-free.
+     */
+    public static <I, E> MappedList<I, E> memoizing(final FinalList<? extends I> origin,
+                                                    final Function<? super I, ? extends E> conversion) {
+        return new MappedList<>(origin, conversion, true);
+    }
+
+    /**
+     * Indicates if this list remembers the results of its {@code conversion}.
+     */
+    public final boolean isMemoizing() {
+        return null != results;
+    }
+
+    @Override
+    public final E get(final int index) {
+        return (null == results) ? conversion.apply(origin.get(index)) : results.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * A {@link MappedList} returns a {@link MappedList} of the same kind, based on the related part of the original
+     * {@link FinalList}. Results of a memoizing {@code conversion} are not shared.
+     */
+    @Override
+    public final MappedList<I, E> subList(final int fromIndex, final int toIndex) {
+        return new MappedList<>(origin.subList(fromIndex, toIndex), conversion, isMemoizing());
+    }
+
+    @Override
+    public final int size() {
+        return origin.size();
+    }
+}
@@ -0,0 +1,124 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Remembers the results of a {@code function} of an index, each of which is computed not until it is requested for
+ * the first time.
+ * <p/>
+ * Each result is computed at most once (if successful), even if requested concurrently. Concurrent first requests of
+ * the same index wait for its result, while requests of other indices are not affected. Once computed, a result is
+ * retrieved lock-free.
+ * <p/>
+ * If the computation of a result fails, the failure is passed to the requesting thread (and to any thread waiting for
+ * the same index) and the next request will try again.
+ */
+final class MemoArray<E> {
+
+    private static final Object NULL = new Object();
+
+    private final Function<Integer, ? extends E> function;
+    private final AtomicReferenceArray<Object> slots;
+
+    MemoArray(final int size, final Function<Integer, ? extends E> function) {
+        this.function = requireNonNull(function);
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    private static Object mask(final Object result) {
+        return (null == result) ? NULL : result;
+    }
+
+    /**
+     * Supplies the result for the given {@code index}, computes it if not yet done.
+     *
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range.
+     * @throws IllegalStateException     if called (indirectly) by the {@code function} for the same index.
+     * @throws RuntimeException          (or an {@link Error}) as thrown by the {@code function}.
+     */
+    final E get(final int index) {
+        final Object result = resolve(index);
+        // There is no regular way to compute a result that is not an instance of <E> ...
+        // noinspection unchecked
+        return (NULL == result) ? null : (E) result;
+    }
+
+    private Object resolve(final int index) {
+        while (true) {
+            final Object slot = slots.get(index);
+            if (null == slot) {
+                final Pending pending = new Pending(function, index);
+                if (slots.compareAndSet(index, null, pending)) {
+                    return settle(index, pending);
+                }
+            } else if (slot instanceof Pending) {
+                return ((Pending) slot).await();
+            } else {
+                return slot;
+            }
+        }
+    }
+
+    private Object settle(final int index, final Pending pending) {
+        try {
+            final Object result = pending.run();
+            slots.compareAndSet(index, pending, result);
+            return result;
+        } catch (final RuntimeException | Error caught) {
+            slots.compareAndSet(index, pending, null);
+            throw caught;
+        }
+    }
+
+    private static final class Pending {
+
+        private final FutureTask<Object> task;
+        private volatile Thread runner = null;
+
+        private Pending(final Function<Integer, ?> function, final int index) {
+            task = new FutureTask<>(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return mask(function.apply(index));
+                }
+            });
+        }
+
+        private Object run() {
+            runner = Thread.currentThread();
+            try {
+                task.run();
+            } finally {
+                runner = null;
+            }
+            return result();
+        }
+
+        private Object await() {
+            if (Thread.currentThread() == runner) {
+                throw new IllegalStateException("recursive request while computing");
+            }
+            return result();
+        }
+
+        private Object result() {
+            try {
+                return Uninterruptibles.getUninterruptibly(task);
+            } catch (final ExecutionException caught) {
+                final Throwable cause = caught.getCause();
+                throwIfUnchecked(cause);
+                throw new UncheckedExecutionException(cause);
+            }
+        }
+    }
+}
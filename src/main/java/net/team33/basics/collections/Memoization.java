@@ -0,0 +1,121 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Specifies how the results of a {@code conversion} are remembered during a bulk operation like
+ * {@link Collecting#addAll(java.util.Collection, Function, Memoization, Iterable)}, so that the {@code conversion}
+ * is applied only once per distinct input (as far as the results are remembered).
+ * <p/>
+ * The results are remembered for the duration of a single bulk operation only.
+ * <p/>
+ * Predefined instances are supplied by ...
+ * <ul>
+ * <li>{@link #unbounded()}</li>
+ * <li>{@link #lru(int)}</li>
+ * <li>{@link #fifo(int)}</li>
+ * </ul>
+ * A derivative may implement any other eviction policy by supplying a suitable {@link Map} as cache.
+ */
+public abstract class Memoization {
+
+    private static final Object NULL = new Object();
+
+    /**
+     * Supplies a {@link Memoization} that remembers each distinct result.
+     */
+    public static Memoization unbounded() {
+        return new Memoization() {
+            @Override
+            protected <K, V> Map<K, V> newCache() {
+                return new HashMap<>(0);
+            }
+        };
+    }
+
+    /**
+     * Supplies a {@link Memoization} that remembers up to {@code limit} results and evicts the least recently used.
+     *
+     * @throws IllegalArgumentException if {@code limit} is less than {@code 1}.
+     */
+    public static Memoization lru(final int limit) {
+        return new Bounded(limit, true);
+    }
+
+    /**
+     * Supplies a {@link Memoization} that remembers up to {@code limit} results and evicts the earliest remembered.
+     *
+     * @throws IllegalArgumentException if {@code limit} is less than {@code 1}.
+     */
+    public static Memoization fifo(final int limit) {
+        return new Bounded(limit, false);
+    }
+
+    /**
+     * Supplies a new, empty, mutable {@link Map} to be used as cache during a single bulk operation.
+     * It is used by a single thread and must permit {@code null} keys.
+     * <p/>
+     * The {@link Map} itself is responsible to evict entries, if necessary.
+     */
+    protected abstract <K, V> Map<K, V> newCache();
+
+    /**
+     * Supplies a new {@link Function} that applies a given {@code conversion} and remembers its results
+     * in a {@linkplain #newCache() new cache}.
+     */
+    public final <I, O> Function<I, O> apply(final Function<I, ? extends O> conversion) {
+        return new Memo<>(conversion, this.<I, Object>newCache());
+    }
+
+    private static class Memo<I, O> implements Function<I, O> {
+        private final Function<I, ? extends O> conversion;
+        private final Map<I, Object> cache;
+
+        private Memo(final Function<I, ? extends O> conversion, final Map<I, Object> cache) {
+            this.conversion = requireNonNull(conversion);
+            this.cache = requireNonNull(cache);
+        }
+
+        @Override
+        public final O apply(final I input) {
+            Object result = cache.get(input);
+            if (null == result) {
+                result = conversion.apply(input);
+                cache.put(input, (null == result) ? NULL : result);
+            }
+            // Results are retrieved from the <conversion> only ...
+            // noinspection unchecked
+            return (NULL == result) ? null : (O) result;
+        }
+    }
+
+    private static class Bounded extends Memoization {
+        private final int limit;
+        private final boolean accessOrder;
+
+        private Bounded(final int limit, final boolean accessOrder) {
+            if (1 > limit) {
+                throw new IllegalArgumentException("limit must be positive but was " + limit);
+            }
+            this.limit = limit;
+            this.accessOrder = accessOrder;
+        }
+
+        @SuppressWarnings({"AnonymousInnerClass", "CloneableClassInSecureContext"})
+        @Override
+        protected final <K, V> Map<K, V> newCache() {
+            return new LinkedHashMap<K, V>(0, 0.75f, accessOrder) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    return limit < size();
+                }
+            };
+        }
+    }
+}
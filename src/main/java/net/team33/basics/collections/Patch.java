@@ -0,0 +1,175 @@
+package net.team33.basics.collections;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.String.format;
+
+/**
+ * Records positional modifications of an original {@link List} to apply them all at once later on.
+ * <p/>
+ * The modified sequence is represented as an implicit treap of segments, each referring to a range of either the
+ * original elements or the inserted ones. Thus each recorded modification costs {@code O(log k)} (expected) where
+ * {@code k} is the number of modifications recorded so far, independent of the size of the original.
+ * Applying the modifications finally costs {@code O(n + k)}.
+ */
+final class Patch {
+
+    private static final String ILLEGAL_INDEX = "Index: %d, Size: %d";
+
+    private final int originalSize;
+    private Node root;
+
+    Patch(final int originalSize) {
+        this.originalSize = originalSize;
+        this.root = (0 < originalSize) ? new Node(null, 0, originalSize) : null;
+    }
+
+    private static int total(final Node node) {
+        return (null == node) ? 0 : node.total;
+    }
+
+    private static Node merge(final Node left, final Node right) {
+        if (null == left) {
+            return right;
+        } else if (null == right) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        } else {
+            right.left = merge(left, right.left);
+            return right.update();
+        }
+    }
+
+    /**
+     * Splits a (sub-)tree into two, the first one containing exactly {@code position} elements.
+     * A segment that spans the {@code position} is cut into two.
+     */
+    @SuppressWarnings("AccessingNonPublicFieldOfAnotherObject")
+    private static Node[] split(final Node node, final int position) {
+        if (null == node) {
+            return new Node[]{null, null};
+        } // else ...
+
+        final int leftTotal = total(node.left);
+        if (position <= leftTotal) {
+            final Node[] result = split(node.left, position);
+            node.left = result[1];
+            result[1] = node.update();
+            return result;
+
+        } else if (position >= (leftTotal + node.length)) {
+            final Node[] result = split(node.right, position - leftTotal - node.length);
+            node.right = result[0];
+            result[0] = node.update();
+            return result;
+
+        } else {
+            final int cut = position - leftTotal;
+            final Node tail = new Node(node.source, node.from + cut, node.length - cut);
+            final Node right = node.right;
+            node.length = cut;
+            node.right = null;
+            return new Node[]{node.update(), merge(tail, right)};
+        }
+    }
+
+    /**
+     * Retrieves the size of the modified sequence.
+     */
+    final int size() {
+        return total(root);
+    }
+
+    private void checkIndex(final int index, final int limit) {
+        if ((0 > index) || (limit < index)) {
+            throw new IndexOutOfBoundsException(format(ILLEGAL_INDEX, index, size()));
+        }
+    }
+
+    final void add(final int index, final Object element) {
+        addAll(index, new Object[]{element});
+    }
+
+    final void addAll(final int index, final Collection<?> elements) {
+        addAll(index, elements.toArray());
+    }
+
+    private void addAll(final int index, final Object[] elements) {
+        checkIndex(index, size());
+        if (0 < elements.length) {
+            final Node[] parts = split(root, index);
+            root = merge(merge(parts[0], new Node(elements, 0, elements.length)), parts[1]);
+        }
+    }
+
+    final void remove(final int index) {
+        checkIndex(index, size() - 1);
+        final Node[] parts = split(root, index);
+        root = merge(parts[0], split(parts[1], 1)[1]);
+    }
+
+    final void set(final int index, final Object element) {
+        remove(index);
+        add(index, element);
+    }
+
+    /**
+     * Applies the recorded modifications to the given {@code elements} of the original and returns the resulting
+     * elements. The given {@code elements} are not modified.
+     *
+     * @throws ConcurrentModificationException if the original has not the size it had when this was initiated.
+     */
+    @SuppressWarnings({"AccessingNonPublicFieldOfAnotherObject", "MethodWithMultipleLoops"})
+    final Object[] applyTo(final Object[] elements) {
+        if (originalSize != elements.length) {
+            throw new ConcurrentModificationException(format(
+                    "original size should be %d but was %d", originalSize, elements.length));
+        }
+
+        final Object[] result = new Object[size()];
+        final Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        int position = 0;
+        while ((null != node) || !stack.isEmpty()) {
+            while (null != node) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            System.arraycopy((null == node.source) ? elements : node.source, node.from, result, position, node.length);
+            position += node.length;
+            node = node.right;
+        }
+        return result;
+    }
+
+    private static class Node {
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private final Object[] source;
+        private final int from;
+        private int length;
+        private int total;
+        private Node left = null;
+        private Node right = null;
+
+        @SuppressWarnings("AssignmentToCollectionOrArrayFieldFromParameter")
+        private Node(final Object[] source, final int from, final int length) {
+            this.source = source;
+            this.from = from;
+            this.length = length;
+            this.total = length;
+        }
+
+        private Node update() {
+            total = total(left) + length + total(right);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Abstracts a lazily initialized value, that is computed asynchronously on a given {@link Executor}:
+ * <ul>
+ * <li>The computation by {@link #getFinal()} is started on the first call to {@link #future()} or {@link #get()}.
+ * </li>
+ * <li>{@link #future()} never blocks. Any number of callers may register a callback at the resulting
+ * {@link ListenableFuture} (e.g. by {@link Futures#addCallback(ListenableFuture, FutureCallback, Executor)})
+ * without holding a thread while the value is being computed.</li>
+ * <li>{@link #get()} waits (uninterruptibly) for the result, parking the calling thread rather than blocking it on a
+ * monitor.</li>
+ * </ul>
+ * If {@link #getFinal()} fails, the failure is passed to the callers of {@link #get()} and to the callbacks of the
+ * related {@link ListenableFuture}, and the next call to {@link #future()} or {@link #get()} will try again.
+ */
+public abstract class AsyncInitial<T> implements Supplier<T> {
+
+    private final Executor executor;
+    private final AtomicReference<ListenableFutureTask<T>> anchor = new AtomicReference<>(null);
+    private volatile Thread runner = null;
+
+    /**
+     * Initiates a new instance that will compute its value using a given {@link Executor}.
+     */
+    protected AsyncInitial(final Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Supplies a {@link ListenableFuture} of the value and starts its computation, if not yet done.
+     * <p/>
+     * Cancelling the result does not cancel the computation itself.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the computation has to be started but the
+     *                                                         {@link Executor} rejects it.
+     */
+    public final ListenableFuture<T> future() {
+        return Futures.nonCancellationPropagating(task());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Starts the computation, if not yet done, and waits for its result.
+     *
+     * @throws IllegalStateException if called (indirectly) by {@link #getFinal()} itself.
+     */
+    @Override
+    public final T get() {
+        if (Thread.currentThread() == runner) {
+            throw new IllegalStateException("recursive request while computing");
+        }
+        try {
+            return Uninterruptibles.getUninterruptibly(task());
+        } catch (final ExecutionException caught) {
+            final Throwable cause = caught.getCause();
+            throwIfUnchecked(cause);
+            throw new UncheckedExecutionException(cause);
+        }
+    }
+
+    /**
+     * Indicates if the value has been computed successfully.
+     */
+    public final boolean isComputed() {
+        final ListenableFutureTask<T> task = anchor.get();
+        if ((null == task) || !task.isDone()) {
+            return false;
+        } // else ...
+
+        try {
+            Futures.getDone(task);
+            return true;
+        } catch (final ExecutionException | CancellationException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the value. Will be called by the given {@link Executor} at most once at a time and, if it succeeds,
+     * at most once at all.
+     */
+    protected abstract T getFinal();
+
+    @SuppressWarnings("MethodWithMultipleLoops")
+    private ListenableFutureTask<T> task() {
+        while (true) {
+            final ListenableFutureTask<T> current = anchor.get();
+            if (null != current) {
+                return current;
+            } // else ...
+
+            final ListenableFutureTask<T> task = ListenableFutureTask.create(new Computing());
+            if (anchor.compareAndSet(null, task)) {
+                Futures.addCallback(task, new Reset(task), directExecutor());
+                try {
+                    executor.execute(task);
+                } catch (final RuntimeException caught) {
+                    // Callers that might already have received the task are released ...
+                    task.cancel(false);
+                    anchor.compareAndSet(task, null);
+                    throw caught;
+                }
+                return task;
+            }
+        }
+    }
+
+    private class Computing implements Callable<T> {
+        @Override
+        public final T call() {
+            runner = Thread.currentThread();
+            try {
+                return getFinal();
+            } finally {
+                runner = null;
+            }
+        }
+    }
+
+    private class Reset implements FutureCallback<T> {
+        private final ListenableFutureTask<T> task;
+
+        private Reset(final ListenableFutureTask<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public final void onSuccess(final T result) {
+        }
+
+        @Override
+        public final void onFailure(final Throwable caught) {
+            anchor.compareAndSet(task, null);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Abstracts a lazily initialized value, just like {@link Initial}, but without any monitor:
+ * <ul>
+ * <li>Once initialized, {@link #get()} is lock-free (a single volatile read of the anchor).</li>
+ * <li>{@link #getFinal()} is called at most once at a time and, if it succeeds, at most once at all.
+ * Concurrent callers wait for the result instead of computing it themselves.</li>
+ * <li>Waiting callers are parked instead of being blocked on a monitor, so e.g. virtual threads are not pinned
+ * while the value is being computed.</li>
+ * </ul>
+ * If {@link #getFinal()} fails, the failure is passed to the caller and to any caller waiting for it,
+ * and the next call to {@link #get()} will try again.
+ */
+public abstract class AtomicInitial<T> implements Supplier<T> {
+
+    private final AtomicReference<Supplier<T>> anchor = new AtomicReference<Supplier<T>>(new Start());
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if called (indirectly) by {@link #getFinal()} itself.
+     */
+    @Override
+    public final T get() {
+        return anchor.get().get();
+    }
+
+    /**
+     * Computes the value. Will be called at most once if it succeeds.
+     */
+    protected abstract T getFinal();
+
+    private class Start implements Supplier<T> {
+        @Override
+        public final T get() {
+            final Pending pending = new Pending();
+            return anchor.compareAndSet(this, pending) ? pending.run() : anchor.get().get();
+        }
+    }
+
+    private class Pending implements Supplier<T> {
+        private final Computation<T> computation = Computation.of(new Supplier<T>() {
+            @Override
+            public T get() {
+                return getFinal();
+            }
+        });
+
+        private T run() {
+            try {
+                final T result = computation.run();
+                anchor.set(new Final<>(result));
+                return result;
+            } catch (final RuntimeException | Error caught) {
+                anchor.compareAndSet(this, new Start());
+                throw caught;
+            }
+        }
+
+        @Override
+        public final T get() {
+            return computation.await();
+        }
+    }
+}
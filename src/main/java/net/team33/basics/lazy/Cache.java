@@ -0,0 +1,223 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.google.common.cache.Weigher;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of a bounded memoization of an expensive {@code loader}:
+ * <ul>
+ * <li>The results are bounded either by their number (see {@link #bySize(long, Function)}) or by their total weight
+ * (see {@link #byWeight(long, Weigher, Function)}).</li>
+ * <li>Results are evicted following the CLOCK policy (an approximation of LRU): Each result is marked as referenced
+ * on any request. When a result has to be evicted, the clock hand passes the results in the order they were cached,
+ * spares the referenced ones once (by clearing the mark) and evicts the first one not referenced.</li>
+ * <li>Each result is computed at most once at a time. Concurrent requests for the same key wait for the result
+ * instead of computing it themselves. If the {@code loader} fails, the failure is passed to the requester and to
+ * any requester waiting for it, and the next request will try again.</li>
+ * <li>Requests for already cached results take no lock. A lock is only taken to register a new result and to
+ * evict others, if necessary.</li>
+ * </ul>
+ * {@code null} keys are not supported, while the {@code loader} may supply {@code null} results.
+ */
+public class Cache<K, V> implements Function<K, V> {
+
+    private static final Object NULL = new Object();
+
+    private final long limit;
+    private final Weigher<? super K, ? super V> weigher;
+    private final Function<? super K, ? extends V> loader;
+    private final ConcurrentMap<K, Node<K>> nodes = new ConcurrentHashMap<>(0);
+    private final Deque<Node<K>> clock = new ArrayDeque<>(0);
+    private long weight = 0;
+
+    private Cache(final long limit, final Weigher<? super K, ? super V> weigher,
+                  final Function<? super K, ? extends V> loader) {
+        if (1 > limit) {
+            throw new IllegalArgumentException("limit must be positive but was " + limit);
+        }
+        this.limit = limit;
+        this.weigher = requireNonNull(weigher);
+        this.loader = requireNonNull(loader);
+    }
+
+    /**
+     * Supplies a new {@link Cache} that holds up to {@code maximumSize} results of the given {@code loader}.
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is less than {@code 1}.
+     */
+    public static <K, V> Cache<K, V> bySize(final long maximumSize, final Function<? super K, ? extends V> loader) {
+        return new Cache<>(maximumSize, Unit.INSTANCE, loader);
+    }
+
+    /**
+     * Supplies a new {@link Cache} that holds results of the given {@code loader} up to a total weight of
+     * {@code maximumWeight}, where each result is weighed once by the given {@code weigher} when it is cached.
+     * <p/>
+     * A single result that outweighs {@code maximumWeight} is supplied to its requester but won't stay in the cache.
+     *
+     * @throws IllegalArgumentException if {@code maximumWeight} is less than {@code 1}.
+     */
+    public static <K, V> Cache<K, V> byWeight(final long maximumWeight, final Weigher<? super K, ? super V> weigher,
+                                              final Function<? super K, ? extends V> loader) {
+        return new Cache<>(maximumWeight, weigher, loader);
+    }
+
+    private static Object mask(final Object value) {
+        return (null == value) ? NULL : value;
+    }
+
+    private static Object unmask(final Object value) {
+        // noinspection ReturnOfNull
+        return (NULL == value) ? null : value;
+    }
+
+    /**
+     * Same as {@link #get(Object)}.
+     */
+    @Override
+    public final V apply(final K key) {
+        return get(key);
+    }
+
+    /**
+     * Supplies the result of the {@code loader} for the given {@code key}, either from the cache or computed on
+     * demand.
+     *
+     * @throws IllegalStateException if called (indirectly) by the {@code loader} for the same {@code key}.
+     */
+    public final V get(final K key) {
+        final Node<K> present = nodes.get(key);
+        if (null != present) {
+            final Object slot = present.touch();
+            return value(((null == slot) || (slot instanceof Computation)) ? load(present) : slot);
+        } // else ...
+
+        final Node<K> node = new Node<>(key);
+        final Node<K> former = nodes.putIfAbsent(key, node);
+        return value(load((null == former) ? node : former));
+    }
+
+    @SuppressWarnings("AccessingNonPublicFieldOfAnotherObject")
+    private Object load(final Node<K> node) {
+        return Computation.resolve(node, new Supplier<Object>() {
+            @Override
+            public Object get() {
+                final Object result;
+                try {
+                    result = mask(loader.apply(node.key));
+                } catch (final RuntimeException | Error caught) {
+                    // Removed before the node is emptied, so no further request will find it ...
+                    nodes.remove(node.key, node);
+                    throw caught;
+                }
+                // A node that has been removed meanwhile still supplies its result but won't be admitted ...
+                if (node == nodes.get(node.key)) {
+                    node.weight = weigher.weigh(node.key, value(result));
+                    admit(node);
+                }
+                return result;
+            }
+        });
+    }
+
+    @SuppressWarnings("AccessingNonPublicFieldOfAnotherObject")
+    private void admit(final Node<K> node) {
+        synchronized (clock) {
+            clock.addLast(node);
+            weight += node.weight;
+            while (limit < weight) {
+                final Node<K> candidate = clock.pollFirst();
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    clock.addLast(candidate);
+                } else {
+                    nodes.remove(candidate.key, candidate);
+                    weight -= candidate.weight;
+                }
+            }
+        }
+    }
+
+    private V value(final Object slot) {
+        // Values are retrieved from the <loader> only ...
+        // noinspection unchecked
+        return (V) unmask(slot);
+    }
+
+    /**
+     * Indicates if a result for the given {@code key} is currently cached.
+     */
+    public final boolean isCached(final K key) {
+        final Node<K> node = nodes.get(key);
+        final Object slot = (null == node) ? null : node.slot;
+        return (null != slot) && !(slot instanceof Computation);
+    }
+
+    /**
+     * Retrieves the number of results currently cached (including those being computed).
+     */
+    public final int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Retrieves the total weight of the results currently cached.
+     * When bounded {@linkplain #bySize(long, Function) by size}, each result weighs {@code 1}.
+     */
+    public final long weight() {
+        synchronized (clock) {
+            return weight;
+        }
+    }
+
+    private static class Node<K> implements Computation.Slot {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Object> SLOT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "slot");
+
+        private final K key;
+        private volatile Object slot = null;
+        private volatile boolean referenced = false;
+        private int weight = 0;
+
+        private Node(final K key) {
+            this.key = key;
+        }
+
+        private Object touch() {
+            if (!referenced) {
+                // Writes only if necessary to keep the cache line of hot nodes shared among processors ...
+                referenced = true;
+            }
+            return slot;
+        }
+
+        @Override
+        public final Object get() {
+            return slot;
+        }
+
+        @Override
+        public final boolean compareAndSet(final Object expected, final Object update) {
+            return SLOT.compareAndSet(this, expected, update);
+        }
+    }
+
+    private enum Unit implements Weigher<Object, Object> {
+        INSTANCE;
+
+        @Override
+        public int weigh(final Object key, final Object value) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a computation that is {@linkplain #run() run} by one thread,
+ * while any other thread may {@linkplain #await() wait} for its result.
+ * <p/>
+ * Waiting threads are parked (see {@link java.util.concurrent.locks.LockSupport}) rather than blocked on a monitor.
+ * <p/>
+ * Use {@link #resolve(Slot, Supplier)} to publish a computation in a {@link Slot} that is replaced by its result
+ * when done.
+ */
+final class Computation<T> {
+
+    private final FutureTask<T> task;
+    private volatile Thread runner = null;
+
+    Computation(final Callable<T> callable) {
+        task = new FutureTask<>(callable);
+    }
+
+    static <T> Computation<T> of(final Supplier<? extends T> supplier) {
+        requireNonNull(supplier);
+        return new Computation<>(new Callable<T>() {
+            @Override
+            public T call() {
+                return supplier.get();
+            }
+        });
+    }
+
+    /**
+     * Same as {@link #resolve(Slot, Supplier)} for a {@link AtomicReference}.
+     */
+    static Object resolve(final AtomicReference<Object> reference, final Supplier<?> supplier) {
+        return resolve(new Slot() {
+            @Override
+            public Object get() {
+                return reference.get();
+            }
+
+            @Override
+            public boolean compareAndSet(final Object expected, final Object update) {
+                return reference.compareAndSet(expected, update);
+            }
+        }, supplier);
+    }
+
+    /**
+     * Supplies the result that is present in a given {@link Slot}. If the slot is empty, publishes a new
+     * computation by the given {@code supplier} to the slot, runs it in the current thread and finally replaces it
+     * by its result. If the slot contains a computation of another thread, waits for its result.
+     * <p/>
+     * The {@code supplier} must not supply {@code null}, which indicates an empty slot (mask it if necessary).
+     * If it fails, the slot is emptied again, so the next call will try again.
+     *
+     * @throws IllegalStateException if called (indirectly) by the {@code supplier} for the same slot.
+     * @throws RuntimeException      (or an {@link Error}) as thrown by the {@code supplier}.
+     */
+    @SuppressWarnings("MethodWithMultipleLoops")
+    static Object resolve(final Slot slot, final Supplier<?> supplier) {
+        while (true) {
+            final Object current = slot.get();
+            if (null == current) {
+                final Computation<?> computation = of(supplier);
+                if (slot.compareAndSet(null, computation)) {
+                    try {
+                        final Object result = computation.run();
+                        slot.compareAndSet(computation, result);
+                        return result;
+                    } catch (final RuntimeException | Error caught) {
+                        slot.compareAndSet(computation, null);
+                        throw caught;
+                    }
+                }
+            } else if (current instanceof Computation) {
+                return ((Computation<?>) current).await();
+            } else {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Runs the computation in the current thread (if not yet done) and supplies its result.
+     *
+     * @throws RuntimeException (or an {@link Error}) as thrown by the computation itself.
+     */
+    final T run() {
+        runner = Thread.currentThread();
+        try {
+            task.run();
+        } finally {
+            runner = null;
+        }
+        return result();
+    }
+
+    /**
+     * Waits (uninterruptibly) until the computation is done and supplies its result.
+     *
+     * @throws IllegalStateException if called by the thread that is currently running the computation itself.
+     * @throws RuntimeException      (or an {@link Error}) as thrown by the computation itself.
+     */
+    final T await() {
+        if (Thread.currentThread() == runner) {
+            throw new IllegalStateException("recursive request while computing");
+        }
+        return result();
+    }
+
+    /**
+     * Indicates if the computation is done (successfully or not).
+     */
+    final boolean isDone() {
+        return task.isDone();
+    }
+
+    /**
+     * Abstracts a place that is either empty ({@code null}), holds a {@link Computation} or holds its result.
+     */
+    interface Slot {
+
+        Object get();
+
+        boolean compareAndSet(Object expected, Object update);
+    }
+
+    private T result() {
+        try {
+            return Uninterruptibles.getUninterruptibly(task);
+        } catch (final ExecutionException caught) {
+            final Throwable cause = caught.getCause();
+            throwIfUnchecked(cause);
+            throw new UncheckedExecutionException(cause);
+        }
+    }
+}
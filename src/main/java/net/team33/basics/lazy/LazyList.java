@@ -0,0 +1,154 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import net.team33.basics.collections.UnmodifiableList;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of an immutable {@link List} of a fixed size, whose elements are computed not until they are
+ * accessed for the first time.
+ * <p/>
+ * Each element is computed at most once (if successful), even if accessed concurrently. Concurrent accesses to the
+ * same element wait for its computation, while accesses to other elements are not affected. Once computed, an element
+ * is retrieved lock-free.
+ * <p/>
+ * If the computation of an element fails, the failure is passed to the accessing thread (and to any thread waiting for
+ * the same element) and the next access will try again.
+ * <p/>
+ * To create an instance you can use ...
+ * <ul>
+ * <li>{@link #from(int, Function)}</li>
+ * <li>{@link #from(List)}</li>
+ * </ul>
+ */
+@SuppressWarnings("ClassWithTooManyMethods")
+public class LazyList<E> extends UnmodifiableList<E> implements RandomAccess {
+
+    private static final Object NULL = new Object();
+    private static final String ILLEGAL_INDEX = "Index: %d, Size: %d";
+
+    private final Function<Integer, ? extends E> function;
+    private final AtomicReferenceArray<Object> slots;
+    private final int offset;
+    private final int size;
+
+    private LazyList(final Function<Integer, ? extends E> function, final AtomicReferenceArray<Object> slots,
+                     final int offset, final int size) {
+        this.function = requireNonNull(function);
+        this.slots = slots;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Supplies a new {@link LazyList} of a given {@code size}, whose elements are computed by a {@code function}
+     * of their index.
+     *
+     * @throws IllegalArgumentException if {@code size} is negative.
+     */
+    public static <E> LazyList<E> from(final int size, final Function<Integer, ? extends E> function) {
+        if (0 > size) {
+            throw new IllegalArgumentException("size must not be negative but was " + size);
+        }
+        return new LazyList<>(function, new AtomicReferenceArray<>(size), 0, size);
+    }
+
+    /**
+     * Supplies a new {@link LazyList} whose elements are computed by given {@code suppliers}.
+     */
+    public static <E> LazyList<E> from(final List<? extends Supplier<? extends E>> suppliers) {
+        final Object[] array = suppliers.toArray();
+        return from(array.length, new Function<Integer, E>() {
+            @Override
+            public E apply(final Integer index) {
+                // There is no regular way to retrieve an element that is not a Supplier<? extends E> ...
+                // noinspection unchecked
+                return ((Supplier<? extends E>) array[index]).get();
+            }
+        });
+    }
+
+    private static Object mask(final Object element) {
+        return (null == element) ? NULL : element;
+    }
+
+    private static Object unmask(final Object slot) {
+        // noinspection ReturnOfNull
+        return (NULL == slot) ? null : slot;
+    }
+
+    private int slotIndex(final int index) {
+        if ((0 > index) || (size <= index)) {
+            throw new IndexOutOfBoundsException(format(ILLEGAL_INDEX, index, size));
+        }
+        return offset + index;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Computes the element if not yet done.
+     */
+    @Override
+    public final E get(final int index) {
+        final int slotIndex = slotIndex(index);
+        final Object slot = slots.get(slotIndex);
+        // There is no regular way to compute an element that is not an instance of <E> ...
+        // noinspection unchecked
+        return (E) unmask(((null == slot) || (slot instanceof Computation)) ? compute(slotIndex) : slot);
+    }
+
+    /**
+     * Indicates if the element at the given {@code index} has been computed yet.
+     */
+    public final boolean isComputed(final int index) {
+        final Object slot = slots.get(slotIndex(index));
+        return (null != slot) && !(slot instanceof Computation);
+    }
+
+    private Object compute(final int slotIndex) {
+        return Computation.resolve(new Computation.Slot() {
+            @Override
+            public Object get() {
+                return slots.get(slotIndex);
+            }
+
+            @Override
+            public boolean compareAndSet(final Object expected, final Object update) {
+                return slots.compareAndSet(slotIndex, expected, update);
+            }
+        }, new Supplier<Object>() {
+            @Override
+            public Object get() {
+                return mask(function.apply(slotIndex));
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * A {@link LazyList} returns a {@link LazyList} that shares the (computed and not yet computed) elements
+     * with the original.
+     */
+    @Override
+    public final LazyList<E> subList(final int fromIndex, final int toIndex) {
+        if ((0 > fromIndex) || (toIndex > size) || (fromIndex > toIndex)) {
+            throw new IndexOutOfBoundsException(format("fromIndex: %d, toIndex: %d, size: %d",
+                                                       fromIndex, toIndex, size));
+        }
+        return new LazyList<>(function, slots, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+}
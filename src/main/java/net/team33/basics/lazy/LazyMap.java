@@ -0,0 +1,242 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import net.team33.basics.collections.FinalSet;
+import net.team33.basics.collections.PureIterator;
+import net.team33.basics.collections.UnmodifiableSet;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of an unmodifiable {@link Map} whose values are computed by a {@code loader} not until they are
+ * actually requested:
+ * <ul>
+ * <li>Each value is computed at most once at a time and, if it succeeds, at most once at all.
+ * Concurrent requests for the same key wait for the result instead of computing it themselves.</li>
+ * <li>There is no lock that covers the whole map. Requests for different keys don't block each other and
+ * requests for already computed values are contention-free.</li>
+ * <li>If the {@code loader} fails, the failure is passed to the requester and to any requester waiting for it,
+ * and the next request for the same key will try again.</li>
+ * </ul>
+ * To create an instance you can use ...
+ * <ul>
+ * <li>{@link #fixed(Collection, Function)} to get a map with a fixed set of keys (e.g. the keys of a
+ * {@link net.team33.basics.collections.Mapper Mapper's} subject).</li>
+ * <li>{@link #growing(Function)} to get a map that accepts any key and grows with every new key requested.</li>
+ * </ul>
+ * {@code null} keys are not supported, while the {@code loader} may supply {@code null} values.
+ */
+public class LazyMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object NULL = new Object();
+
+    private final FinalSet<K> keys;
+    private final Function<? super K, ? extends V> loader;
+    private final ConcurrentMap<K, Object> slots;
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    private LazyMap(final FinalSet<K> keys, final Function<? super K, ? extends V> loader) {
+        this.keys = keys;
+        this.loader = requireNonNull(loader);
+        this.slots = new ConcurrentHashMap<>((null == keys) ? 16 : keys.size());
+    }
+
+    /**
+     * Supplies a new {@link LazyMap} that contains the given {@code keys}. Its values are computed by the given
+     * {@code loader} on their first request.
+     *
+     * @throws NullPointerException if {@code keys} contains {@code null}.
+     */
+    public static <K, V> LazyMap<K, V> fixed(final Collection<? extends K> keys,
+                                             final Function<? super K, ? extends V> loader) {
+        final FinalSet<K> finalKeys = FinalSet.from(keys);
+        if (finalKeys.contains(null)) {
+            throw new NullPointerException("keys must not contain <null>");
+        }
+        return new LazyMap<>(finalKeys, loader);
+    }
+
+    /**
+     * Supplies a new {@link LazyMap} that initially is empty and accepts any (non-null) key of type {@code <K>}.
+     * A key is added on its first request by {@link #get(Object)}, its value is computed by the given {@code loader}.
+     * <p/>
+     * Its {@link #entrySet()} (and thus {@link #keySet()}, {@link #values()}, {@link #size()}, ...) only covers the
+     * values that have been computed so far.
+     */
+    public static <K, V> LazyMap<K, V> growing(final Function<? super K, ? extends V> loader) {
+        return new LazyMap<>(null, loader);
+    }
+
+    private static Object mask(final Object value) {
+        return (null == value) ? NULL : value;
+    }
+
+    private static Object unmask(final Object value) {
+        // noinspection ReturnOfNull
+        return (NULL == value) ? null : value;
+    }
+
+    /**
+     * Indicates if this map has a fixed set of keys.
+     */
+    public final boolean isFixed() {
+        return null != keys;
+    }
+
+    /**
+     * Indicates if the value associated with the given {@code key} has already been computed.
+     */
+    public final boolean isComputed(final Object key) {
+        final Object slot = (null == key) ? null : slots.get(key);
+        return (null != slot) && !(slot instanceof Computation);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Computes the value on its first request.
+     *
+     * @throws ClassCastException    if this map is {@linkplain #growing(Function) growing} and the {@code key}
+     *                               is not of type {@code <K>}.
+     * @throws IllegalStateException if called (indirectly) by the {@code loader} for the same {@code key}.
+     */
+    @Override
+    public final V get(final Object key) {
+        if ((null == key) || ((null != keys) && !keys.contains(key))) {
+            return null;
+        } // else ...
+
+        // Either the key is one of the fixed <keys> or it is expected to be of type <K> ...
+        // noinspection unchecked
+        return load((K) key);
+    }
+
+    private V load(final K key) {
+        final Object slot = slots.get(key);
+        if ((null != slot) && !(slot instanceof Computation)) {
+            return value(slot);
+        } // else ...
+
+        return value(Computation.resolve(new Computation.Slot() {
+            @Override
+            public Object get() {
+                return slots.get(key);
+            }
+
+            @Override
+            public boolean compareAndSet(final Object expected, final Object update) {
+                if (null == expected) {
+                    return null == slots.putIfAbsent(key, update);
+                } else if (null == update) {
+                    return slots.remove(key, expected);
+                } else {
+                    return slots.replace(key, expected, update);
+                }
+            }
+        }, new Supplier<Object>() {
+            @Override
+            public Object get() {
+                return mask(loader.apply(key));
+            }
+        }));
+    }
+
+    private V value(final Object slot) {
+        // Values are retrieved from the <loader> only ...
+        // noinspection unchecked
+        return (V) unmask(slot);
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        return (null == keys) ? isComputed(key) : keys.contains(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * If this map has a {@linkplain #isFixed() fixed} set of keys, iterating the entries will compute their values.
+     */
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    private class EntrySet extends UnmodifiableSet<Entry<K, V>> {
+        @Override
+        public final PureIterator<Entry<K, V>> iterator() {
+            return (null == keys) ? new Computed() : new Fixed();
+        }
+
+        @Override
+        public final int size() {
+            if (null != keys) {
+                return keys.size();
+            } // else ...
+
+            int result = 0;
+            for (final Object slot : slots.values()) {
+                if (!(slot instanceof Computation)) {
+                    result += 1;
+                }
+            }
+            return result;
+        }
+    }
+
+    private class Fixed extends PureIterator<Entry<K, V>> {
+        private final Iterator<K> backing = keys.iterator();
+
+        @Override
+        public final boolean hasNext() {
+            return backing.hasNext();
+        }
+
+        @Override
+        public final Entry<K, V> next() {
+            final K key = backing.next();
+            return new SimpleImmutableEntry<>(key, load(key));
+        }
+    }
+
+    private class Computed extends PureIterator<Entry<K, V>> {
+        private final Iterator<Entry<K, Object>> backing = slots.entrySet().iterator();
+        private Entry<K, V> next = advance();
+
+        private Entry<K, V> advance() {
+            while (backing.hasNext()) {
+                final Entry<K, Object> entry = backing.next();
+                if (!(entry.getValue() instanceof Computation)) {
+                    return new SimpleImmutableEntry<>(entry.getKey(), value(entry.getValue()));
+                }
+            }
+            // noinspection ReturnOfNull
+            return null;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public final Entry<K, V> next() {
+            if (null == next) {
+                throw new NoSuchElementException();
+            }
+            final Entry<K, V> result = next;
+            next = advance();
+            return result;
+        }
+    }
+}
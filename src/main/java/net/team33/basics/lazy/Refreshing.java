@@ -0,0 +1,159 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Ticker;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Abstracts a lazily initialized value, that becomes stale after a specific time to live and then is refreshed
+ * in the background (stale-while-revalidate):
+ * <ul>
+ * <li>The initial computation by {@link #getFinal()} takes place on the first call to {@link #get()}.
+ * Concurrent callers wait for its result instead of computing it themselves.</li>
+ * <li>Once computed, {@link #get()} never blocks. When the value is stale, it is still supplied while a single
+ * refresh is triggered on the given {@link Executor}. Further callers don't trigger another refresh as long as one is
+ * in progress.</li>
+ * <li>If a refresh fails, the failure is passed to {@link #onRefreshFailure(RuntimeException)}, the stale value is
+ * kept and the next refresh is not triggered before another time to live has passed. If that time to live passes
+ * without a successful refresh, {@link #get()} throws the failure (while triggering the next refresh) instead of
+ * supplying a value that has been stale for so long.</li>
+ * </ul>
+ */
+public abstract class Refreshing<T> implements Supplier<T> {
+
+    private final long timeToLive;
+    private final Executor executor;
+    private final Ticker ticker;
+    private final AtomicReference<Object> state = new AtomicReference<>(null);
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /**
+     * Initiates a new instance with a given time to live, that refreshes its value using a given {@link Executor}.
+     */
+    protected Refreshing(final long timeToLive, final TimeUnit unit, final Executor executor) {
+        this(timeToLive, unit, executor, Ticker.systemTicker());
+    }
+
+    /**
+     * Initiates a new instance with a given time to live, that refreshes its value using a given {@link Executor}
+     * and measures the time by a given {@link Ticker}.
+     */
+    protected Refreshing(final long timeToLive, final TimeUnit unit, final Executor executor, final Ticker ticker) {
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.executor = requireNonNull(executor);
+        this.ticker = requireNonNull(ticker);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Supplies the current value, even if it is stale. In the latter case triggers a refresh (if not yet in
+     * progress). Blocks only on the initial computation.
+     *
+     * @throws IllegalStateException if called (indirectly) by the initial {@link #getFinal()} itself.
+     * @throws RuntimeException      as thrown by the last refresh, if it failed and the value it kept has become
+     *                               stale again.
+     */
+    @Override
+    public final T get() {
+        final Stamped<T> stamped = stamped();
+        if (stamped.isStale(ticker.read(), timeToLive)) {
+            refresh();
+            if (null != stamped.failure) {
+                throw stamped.failure;
+            }
+        }
+        return stamped.value;
+    }
+
+    /**
+     * Triggers a refresh on the given {@link Executor}, if not yet in progress, regardless of whether or not the
+     * current value is stale. Does nothing if the initial computation has not yet been done.
+     */
+    public final void refresh() {
+        final Object current = state.get();
+        if ((current instanceof Stamped) && refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(new Refresh((Stamped<?>) current));
+            } catch (final RuntimeException caught) {
+                // e.g. RejectedExecutionException -> keep the stale value and try again later ...
+                refreshing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Computes the value. Will be called initially and each time a refresh takes place.
+     */
+    protected abstract T getFinal();
+
+    /**
+     * Will be called (by the thread of the given {@link Executor}) each time a refresh fails.
+     * Does nothing by default. Override it e.g. to log the failure.
+     */
+    protected void onRefreshFailure(final RuntimeException failure) {
+    }
+
+    private Stamped<T> stamped() {
+        final Object current = state.get();
+        if (current instanceof Stamped) {
+            // noinspection unchecked
+            return (Stamped<T>) current;
+        } // else ...
+
+        // noinspection unchecked
+        return (Stamped<T>) Computation.resolve(state, new Supplier<Stamped<T>>() {
+            @Override
+            public Stamped<T> get() {
+                return new Stamped<>(getFinal(), ticker.read());
+            }
+        });
+    }
+
+    private static class Stamped<T> {
+        private final T value;
+        private final long time;
+        private final RuntimeException failure;
+
+        private Stamped(final T value, final long time) {
+            this(value, time, null);
+        }
+
+        private Stamped(final T value, final long time, final RuntimeException failure) {
+            this.value = value;
+            this.time = time;
+            this.failure = failure;
+        }
+
+        private boolean isStale(final long now, final long timeToLive) {
+            return (now - time) >= timeToLive;
+        }
+    }
+
+    private class Refresh implements Runnable {
+        private final Stamped<?> stale;
+
+        private Refresh(final Stamped<?> stale) {
+            this.stale = stale;
+        }
+
+        @Override
+        public final void run() {
+            try {
+                state.set(new Stamped<>(getFinal(), ticker.read()));
+            } catch (final RuntimeException caught) {
+                // keep the stale value for another time to live, along with the failure ...
+                state.set(new Stamped<>(stale.value, ticker.read(), caught));
+                onRefreshFailure(caught);
+            } finally {
+                refreshing.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A registry of lazily initialized values (like {@link Initial}, {@link AtomicInitial}, ...) that may be
+ * {@linkplain #warmUp(Executor) warmed up} concurrently at once, e.g. at startup of an application, instead of being
+ * initialized one by one on their first demand.
+ * <p/>
+ * A value may declare other values it depends on. Those are initialized first, while independent values are
+ * initialized concurrently.
+ */
+public class Registry {
+
+    private final Map<Supplier<?>, List<Supplier<?>>> entries = new LinkedHashMap<>(0);
+
+    /**
+     * Enlists a lazily initialized {@code value} that depends on some other values.
+     * Dependencies that are not enlisted themselves are enlisted implicitly (without further dependencies).
+     * Enlisting a value again replaces its dependencies.
+     *
+     * @return The registry itself.
+     */
+    public final Registry enlist(final Supplier<?> value, final Supplier<?>... dependencies) {
+        final List<Supplier<?>> list = new ArrayList<>(Arrays.asList(dependencies));
+        synchronized (entries) {
+            for (final Supplier<?> dependency : list) {
+                if (!entries.containsKey(requireNonNull(dependency))) {
+                    entries.put(dependency, Collections.<Supplier<?>>emptyList());
+                }
+            }
+            entries.put(requireNonNull(value), list);
+        }
+        return this;
+    }
+
+    /**
+     * Initializes all values enlisted so far, using a given {@link Executor}, by calling their {@code get()} method.
+     * Each value is initialized not before all of its dependencies have been initialized successfully.
+     * <p/>
+     * Supplies a {@link ListenableFuture} of the time in nanoseconds each value took to be initialized, in the order
+     * the values were enlisted. The result fails if any of the values fails.
+     *
+     * @throws IllegalStateException if the dependencies are cyclic. In that case none of the values is initialized.
+     */
+    public final ListenableFuture<Map<Supplier<?>, Long>> warmUp(final Executor executor) {
+        final Map<Supplier<?>, List<Supplier<?>>> snapshot;
+        synchronized (entries) {
+            snapshot = new LinkedHashMap<>(entries);
+        }
+
+        final Set<Supplier<?>> acyclic = new HashSet<>(snapshot.size());
+        final Set<Supplier<?>> visiting = new HashSet<>(0);
+        for (final Supplier<?> value : snapshot.keySet()) {
+            check(value, snapshot, acyclic, visiting);
+        }
+
+        final Map<Supplier<?>, ListenableFuture<Long>> futures = new HashMap<>(snapshot.size());
+        for (final Supplier<?> value : snapshot.keySet()) {
+            schedule(value, snapshot, futures, executor);
+        }
+
+        final List<Supplier<?>> order = new ArrayList<>(snapshot.keySet());
+        return Futures.whenAllSucceed(futures.values()).call(new Callable<Map<Supplier<?>, Long>>() {
+            @Override
+            public Map<Supplier<?>, Long> call() throws Exception {
+                final Map<Supplier<?>, Long> result = new LinkedHashMap<>(order.size());
+                for (final Supplier<?> value : order) {
+                    result.put(value, Futures.getDone(futures.get(value)));
+                }
+                return Collections.unmodifiableMap(result);
+            }
+        }, directExecutor());
+    }
+
+    /**
+     * Checks (depth first) that a given {@code value} does not depend on itself, before anything gets scheduled.
+     */
+    private static void check(final Supplier<?> value, final Map<Supplier<?>, List<Supplier<?>>> snapshot,
+                              final Set<Supplier<?>> acyclic, final Set<Supplier<?>> visiting) {
+        if (acyclic.contains(value)) {
+            return;
+        } else if (!visiting.add(value)) {
+            throw new IllegalStateException("cyclic dependency of " + value);
+        } // else ...
+
+        for (final Supplier<?> dependency : snapshot.get(value)) {
+            check(dependency, snapshot, acyclic, visiting);
+        }
+        visiting.remove(value);
+        acyclic.add(value);
+    }
+
+    private static ListenableFuture<Long> schedule(final Supplier<?> value,
+                                                   final Map<Supplier<?>, List<Supplier<?>>> snapshot,
+                                                   final Map<Supplier<?>, ListenableFuture<Long>> futures,
+                                                   final Executor executor) {
+        final ListenableFuture<Long> present = futures.get(value);
+        if (null != present) {
+            return present;
+        } // else ...
+
+        final List<ListenableFuture<Long>> dependencies = new ArrayList<>(0);
+        for (final Supplier<?> dependency : snapshot.get(value)) {
+            dependencies.add(schedule(dependency, snapshot, futures, executor));
+        }
+        final ListenableFuture<Long> result = Futures.whenAllSucceed(dependencies).call(new Callable<Long>() {
+            @Override
+            public Long call() {
+                final long start = System.nanoTime();
+                value.get();
+                return System.nanoTime() - start;
+            }
+        }, executor);
+        futures.put(value, result);
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Abstracts a lazily initialized value, that may be {@linkplain #invalidate() invalidated} to be recomputed, e.g.
+ * when the source it is derived from has changed:
+ * <ul>
+ * <li>Each call to {@link #invalidate()} increments the requested version. Each computed value is stamped with the
+ * version that was requested when its computation started.</li>
+ * <li>The initial computation by {@link #getFinal()} takes place on the first call to {@link #get()}.
+ * Concurrent callers wait for its result instead of computing it themselves.</li>
+ * <li>Once the value is outdated, the next caller of {@link #get()} recomputes it. Meanwhile concurrent callers
+ * don't wait but keep getting the outdated value until the new one is ready.</li>
+ * </ul>
+ * If a recomputation fails, the failure is passed to the caller that triggered it, the outdated value is kept and
+ * the next call to {@link #get()} will try again.
+ */
+public abstract class Versioned<T> implements Supplier<T> {
+
+    private final AtomicLong requested = new AtomicLong(0);
+    private final AtomicReference<Object> state = new AtomicReference<>(null);
+    private final AtomicBoolean recomputing = new AtomicBoolean(false);
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Blocks only on the initial computation.
+     *
+     * @throws IllegalStateException if called (indirectly) by the initial {@link #getFinal()} itself.
+     */
+    @Override
+    public final T get() {
+        final Stamped<T> stamped = stamped();
+        if ((stamped.version < requested.get()) && recomputing.compareAndSet(false, true)) {
+            try {
+                // Another thread may have recomputed the value meanwhile ...
+                final Stamped<T> current = stamped();
+                return (current.version < requested.get()) ? recompute().value : current.value;
+            } finally {
+                recomputing.set(false);
+            }
+        }
+        return stamped.value;
+    }
+
+    /**
+     * Marks the value as outdated, so it will be recomputed on the next call to {@link #get()}.
+     *
+     * @return The version requested from now on.
+     */
+    public final long invalidate() {
+        return requested.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the version of the value that is currently supplied by {@link #get()}, or {@code -1} if the value
+     * has not yet been computed.
+     */
+    public final long version() {
+        final Object current = state.get();
+        //noinspection rawtypes
+        return (current instanceof Stamped) ? ((Stamped) current).version : -1;
+    }
+
+    /**
+     * Indicates if the value that is currently supplied by {@link #get()} is up to date.
+     */
+    public final boolean isValid() {
+        return version() == requested.get();
+    }
+
+    /**
+     * Computes the value. Will be called initially and each time an outdated value is requested.
+     */
+    protected abstract T getFinal();
+
+    private Stamped<T> recompute() {
+        final long version = requested.get();
+        final Stamped<T> result = new Stamped<>(getFinal(), version);
+        state.set(result);
+        return result;
+    }
+
+    private Stamped<T> stamped() {
+        final Object current = state.get();
+        if (current instanceof Stamped) {
+            // noinspection unchecked
+            return (Stamped<T>) current;
+        } // else ...
+
+        // noinspection unchecked
+        return (Stamped<T>) Computation.resolve(state, new Supplier<Stamped<T>>() {
+            @Override
+            public Stamped<T> get() {
+                final long version = requested.get();
+                return new Stamped<>(getFinal(), version);
+            }
+        });
+    }
+
+    private static class Stamped<T> {
+        private final T value;
+        private final long version;
+
+        private Stamped(final T value, final long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package net.team33.basics.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("SuspiciousMethodCalls")
+public class AdaptiveIndexListTest {
+
+    private static final int SIZE = 10000;
+    private static final List<Integer> ELEMENTS = newList(SIZE);
+    private static final List<Object> SAMPLES = Arrays.asList(
+            0, -1, 94, -519, 5783, -15783, 784512, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            ELEMENTS.get(0), ELEMENTS.get(23), ELEMENTS.get(358), ELEMENTS.get(4352), ELEMENTS.get(SIZE - 1),
+            "another string", new Object(), new Date(), null);
+
+    private static List<Integer> newList(final int size) {
+        final Random random = new Random();
+        final List<Integer> result = new ArrayList<>(size);
+        while (size > result.size()) {
+            // duplicates are intended ...
+            result.add(random.nextInt(size / 2));
+        }
+        result.add(null);
+        return result;
+    }
+
+    @Test
+    public final void testFrom() {
+        final AdaptiveIndexList<Integer> subject = AdaptiveIndexList.from(ELEMENTS);
+        assertEquals(ELEMENTS, subject);
+        assertSame(subject, AdaptiveIndexList.from(subject));
+        assertFalse(subject.isIndexed());
+    }
+
+    @Test
+    public final void testThreshold() {
+        final AdaptiveIndexList<Integer> subject = AdaptiveIndexList.from(ELEMENTS, 3);
+        subject.contains(5);
+        subject.indexOf(5);
+        subject.lastIndexOf(5);
+        assertFalse(subject.isIndexed());
+        subject.contains(5);
+        assertTrue(subject.isIndexed());
+    }
+
+    @Test
+    public final void testThreshold_zero() {
+        final AdaptiveIndexList<Integer> subject = AdaptiveIndexList.from(ELEMENTS, 0);
+        subject.contains(5);
+        assertTrue(subject.isIndexed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testThreshold_negative() {
+        AdaptiveIndexList.from(ELEMENTS, -1);
+    }
+
+    @Test
+    public final void testLookups() {
+        final AdaptiveIndexList<Integer> subject = AdaptiveIndexList.from(ELEMENTS, SAMPLES.size());
+        for (int round = 0; round < 2; ++round) {
+            for (final Object sample : SAMPLES) {
+                final String message = String.format("round %d, sample <%s>", round, sample);
+                assertEquals(message, ELEMENTS.indexOf(sample), subject.indexOf(sample));
+                assertEquals(message, ELEMENTS.lastIndexOf(sample), subject.lastIndexOf(sample));
+                assertEquals(message, ELEMENTS.contains(sample), subject.contains(sample));
+            }
+        }
+        assertTrue(subject.isIndexed());
+    }
+
+    @Test
+    public final void testLookups_concurrent() throws InterruptedException {
+        final AdaptiveIndexList<Integer> subject = AdaptiveIndexList.from(ELEMENTS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> failures = new ArrayList<>(0);
+        final Thread[] threads = new Thread[8];
+        for (int index = 0; index < threads.length; ++index) {
+            threads[index] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (final Object sample : SAMPLES) {
+                            assertEquals(ELEMENTS.indexOf(sample), subject.indexOf(sample));
+                        }
+                    } catch (final Throwable caught) {
+                        synchronized (failures) {
+                            failures.add(caught);
+                        }
+                    }
+                }
+            });
+            threads[index].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Arrays.asList(), failures);
+        assertTrue(subject.isIndexed());
+    }
+}
@@ -0,0 +1,49 @@
+package net.team33.basics.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BuildTimerTest {
+
+    @Test
+    public final void testStart_none() {
+        assertSame(BuildTimer.start(BuildMonitor.NONE), BuildTimer.start(BuildMonitor.NONE));
+    }
+
+    @Test
+    public final void testStop() throws InterruptedException {
+        final List<Object[]> events = new ArrayList<>(1);
+        final Object token = new Object();
+        final BuildTimer subject = BuildTimer.start(new BuildMonitor() {
+            @Override
+            public Object onStart() {
+                return token;
+            }
+
+            @Override
+            public void onBuild(final Object started, final Class<?> type, final int size, final long buildNanos,
+                                final long sortNanos) {
+                events.add(new Object[]{type, size, buildNanos, sortNanos, started});
+            }
+        });
+        subject.sorting();
+        Thread.sleep(2);
+        subject.sorted();
+        subject.stop(FinalSet.class, 278);
+
+        assertEquals(1, events.size());
+        assertSame(FinalSet.class, events.get(0)[0]);
+        assertEquals(278, events.get(0)[1]);
+        assertSame(token, events.get(0)[4]);
+        final long buildNanos = (Long) events.get(0)[2];
+        final long sortNanos = (Long) events.get(0)[3];
+        assertTrue(2000000L <= sortNanos);
+        assertTrue(sortNanos <= buildNanos);
+    }
+}
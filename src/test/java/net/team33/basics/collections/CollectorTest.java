@@ -63,6 +63,16 @@ public class CollectorTest {
         );
     }
 
+    @Test
+    public final void testAddAll_Function_Memoization() {
+        Assert.assertEquals(
+                asList(AnEnum.ABC.name(), null, AnEnum.ABC.name(), AnEnum.GHI.name(), null),
+                Collector.apply(new LinkedList<>())
+                        .addAll(FUNCTION, Memoization.lru(1), asList(AnEnum.ABC, null, AnEnum.ABC, AnEnum.GHI, null))
+                        .subject
+        );
+    }
+
     @Test
     public final void testAddAlt() {
         Assert.assertEquals(
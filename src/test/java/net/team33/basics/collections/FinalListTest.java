@@ -2,11 +2,14 @@ package net.team33.basics.collections;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
@@ -22,6 +25,34 @@ public class FinalListTest {
     private static final int NEGATIVE_INDEX
             = -278;
 
+    private static List<Object> newValues(final int size) {
+        final List<Object> result = new ArrayList<>(size);
+        for (int index = 0; index < size; ++index) {
+            result.add((0 == (index % 2)) ? Integer.valueOf(index) : String.valueOf(index));
+        }
+        return result;
+    }
+
+    @Test
+    public final void testFrom() {
+        final List<Object> values = newValues(64);
+        final FinalList<Object> subject = FinalList.from(values);
+        assertSame(FinalList.class, subject.getClass());
+        assertEquals(values, subject);
+        assertSame(subject, FinalList.from(subject));
+    }
+
+    @Test
+    public final void testAdaptive() {
+        final List<Object> values = newValues(64);
+        final AdaptiveIndexList<Object> subject = FinalList.adaptive(values);
+        assertEquals(values, subject);
+        assertFalse(subject.isIndexed());
+        assertSame(subject, FinalList.adaptive(subject));
+        assertSame(subject, FinalList.from(subject));
+        assertSame(AdaptiveIndexList.class, FinalList.adaptive(3, 5, 7).getClass());
+    }
+
     @Test
     public final void testBuilder__byArray() {
         assertEquals(
@@ -5,15 +5,19 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings("SuspiciousMethodCalls")
@@ -88,6 +92,83 @@ public class FinalSetTest {
         );
     }
 
+    @Test
+    public final void testDeferred() {
+        final FinalSet<String> deferred = FinalSet.deferred(ELEMENTS);
+        assertFalse(deferred.isIndexed());
+        assertEquals(new ArrayList<>(new LinkedHashSet<>(ELEMENTS)), new ArrayList<>(deferred));
+        assertFalse(deferred.isIndexed());
+
+        for (final Object sample : SAMPLES) {
+            assertEquals(String.format("for sample <%s>", sample), ELEMENTS.contains(sample), deferred.contains(sample));
+        }
+        assertTrue(deferred.isIndexed());
+        assertTrue(FinalSet.from(ELEMENTS).isIndexed());
+    }
+
+    @Test
+    public final void testDeferred_equals() {
+        final FinalSet<String> deferred = FinalSet.deferred(ELEMENTS);
+        assertTrue(deferred.equals(new HashSet<>(ELEMENTS)));
+        assertTrue(deferred.isIndexed());
+        assertTrue(FinalSet.deferred(3, 5, 7).equals(FinalSet.from(7, 5, 3)));
+    }
+
+    @Test
+    public final void testDeferred__representation() {
+        final FinalSet<String> deferred = FinalSet.deferred(ELEMENTS);
+        assertEquals(FinalSet.from(ELEMENTS).representation(), deferred.representation());
+        assertFalse(deferred.isIndexed());
+    }
+
+    @Test
+    public final void testRepresentation_selected() {
+        assertEquals(FinalSet.Representation.LINEAR, FinalSet.from(3, 5, 7).representation());
+        assertEquals(FinalSet.Representation.LINEAR, FinalSet.from().representation());
+        assertEquals(FinalSet.Representation.ENUM_BITS,
+                FinalSet.from(TimeUnit.values()).representation());
+        assertEquals(FinalSet.Representation.SORTED_HASH, FinalSet.from(ELEMENTS.subList(0, 63)).representation());
+        assertEquals(FinalSet.Representation.OPEN_ADDRESSING, FinalSet.from(ELEMENTS).representation());
+
+        final List<String> colliding = new ArrayList<>(64);
+        for (int index = 0; index < 64; ++index) {
+            // "Aa".hashCode() == "BB".hashCode() ...
+            colliding.add(Integer.toBinaryString(64 + index).replace("0", "Aa").replace("1", "BB"));
+        }
+        assertEquals(FinalSet.Representation.SORTED_HASH, FinalSet.from(colliding).representation());
+    }
+
+    @Test
+    public final void testRepresentation_explicit() {
+        for (final FinalSet.Representation representation : asList(FinalSet.Representation.LINEAR,
+                FinalSet.Representation.SORTED_HASH, FinalSet.Representation.OPEN_ADDRESSING)) {
+            final FinalSet<String> subject = FinalSet.from(ELEMENTS, representation);
+            assertEquals(representation, subject.representation());
+            assertSame(subject, FinalSet.from(subject, representation));
+            for (final Object sample : SAMPLES) {
+                assertEquals(String.format("<%s> for sample <%s>", representation, sample),
+                        ELEMENTS.contains(sample), subject.contains(sample));
+            }
+            assertEquals(new HashSet<>(ELEMENTS), subject);
+        }
+    }
+
+    @Test
+    public final void testRepresentation_enumBits() {
+        final FinalSet<TimeUnit> subject = FinalSet.from(TimeUnit.SECONDS, TimeUnit.DAYS);
+        assertEquals(FinalSet.Representation.ENUM_BITS, subject.representation());
+        assertTrue(subject.contains(TimeUnit.DAYS));
+        assertFalse(subject.contains(TimeUnit.HOURS));
+        assertFalse(subject.contains("DAYS"));
+        assertFalse(subject.contains(null));
+        assertEquals(EnumSet.of(TimeUnit.DAYS, TimeUnit.SECONDS), subject);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testRepresentation_notApplicable() {
+        FinalSet.from(asList(TimeUnit.DAYS, "DAYS"), FinalSet.Representation.ENUM_BITS);
+    }
+
     @Test
     public final void testContains_byArrayList() {
         assertEquals(0, timeContains(new ArrayList<>(ELEMENTS)));
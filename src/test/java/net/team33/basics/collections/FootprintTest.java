@@ -0,0 +1,108 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FootprintTest {
+
+    private static final List<String> ELEMENTS = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j");
+    private static final Function<Object, Long> TEN_BYTES = new Function<Object, Long>() {
+        @Override
+        public Long apply(final Object input) {
+            return 10L;
+        }
+    };
+
+    private static long sum(final Map<String, Long> parts) {
+        long result = 0;
+        for (final long bytes : parts.values()) {
+            result += bytes;
+        }
+        return result;
+    }
+
+    @Test
+    public final void testFinalList() {
+        final Footprint subject = FinalList.from(ELEMENTS).footprint();
+        assertEquals(Arrays.asList("instance", "elements"), new ArrayList<>(subject.getParts().keySet()));
+        assertEquals(Footprint.array(ELEMENTS.size(), Footprint.REFERENCE), (long) subject.getParts().get("elements"));
+        assertEquals(sum(subject.getParts()), subject.getStructureBytes());
+        assertEquals(0, subject.getElementBytes());
+        assertEquals(subject.getStructureBytes(), subject.getTotalBytes());
+    }
+
+    @Test
+    public final void testFinalIndexList() {
+        final Footprint plain = FinalList.from(ELEMENTS).footprint();
+        final Footprint subject = FinalIndexList.from(ELEMENTS).footprint();
+        assertEquals(Arrays.asList("instance", "elements", "entries", "entry objects"),
+                new ArrayList<>(subject.getParts().keySet()));
+        assertEquals(ELEMENTS.size() * Footprint.object(0, 2), (long) subject.getParts().get("entry objects"));
+        assertTrue(plain.getStructureBytes() < subject.getStructureBytes());
+    }
+
+    @Test
+    public final void testAdaptiveIndexList() {
+        final AdaptiveIndexList<String> subject = AdaptiveIndexList.from(ELEMENTS, 0);
+        assertEquals(Arrays.asList("instance", "elements"), new ArrayList<>(subject.footprint().getParts().keySet()));
+        subject.indexOf("e");
+        assertEquals(new Index(ELEMENTS).footprint().getStructureBytes(),
+                (long) subject.footprint().getParts().get("index"));
+    }
+
+    @Test
+    public final void testFinalSet() {
+        final FinalSet<String> deferred = FinalSet.deferred(ELEMENTS);
+        final Footprint before = deferred.footprint();
+        assertEquals(Arrays.asList("instance", "core", "elements"), new ArrayList<>(before.getParts().keySet()));
+        deferred.contains("e");
+        final Footprint after = deferred.footprint();
+        assertEquals(FinalSet.from(ELEMENTS).footprint().getParts(), after.getParts());
+        assertEquals(ELEMENTS.size() * Footprint.object(0, 2), (long) after.getParts().get("entry objects"));
+    }
+
+    @Test
+    public final void testIndex() {
+        final Footprint subject = new Index(ELEMENTS).footprint();
+        assertEquals(Arrays.asList("instance", "hashes", "indexes"), new ArrayList<>(subject.getParts().keySet()));
+        assertEquals(Footprint.array(ELEMENTS.size(), Footprint.INT), (long) subject.getParts().get("hashes"));
+    }
+
+    @Test
+    public final void testElements() {
+        final List<String> elements = new ArrayList<>(ELEMENTS);
+        elements.addAll(ELEMENTS);
+        elements.add(null);
+        final Footprint subject = FinalList.from(elements).footprint(TEN_BYTES);
+        // Each distinct element is counted once, null not at all ...
+        assertEquals(10L * ELEMENTS.size(), subject.getElementBytes());
+        assertEquals(subject.getStructureBytes() + subject.getElementBytes(), subject.getTotalBytes());
+    }
+
+    @Test
+    public final void testOfHashSet() {
+        assertEquals(Arrays.asList("instance", "map", "nodes"),
+                new ArrayList<>(Footprint.ofHashSet(0).getParts().keySet()));
+        assertEquals(Footprint.array(16, Footprint.REFERENCE), (long) Footprint.ofHashSet(12).getParts().get("table"));
+        assertEquals(Footprint.array(32, Footprint.REFERENCE), (long) Footprint.ofHashSet(13).getParts().get("table"));
+        assertTrue(FinalSet.from(ELEMENTS).footprint().getStructureBytes()
+                < Footprint.ofHashSet(ELEMENTS.size()).getStructureBytes());
+    }
+
+    @Test
+    public final void testOfArrayList() {
+        assertEquals(FinalList.from(ELEMENTS).footprint().getParts().get("elements"),
+                Footprint.ofArrayList(ELEMENTS.size()).getParts().get("elements"));
+        assertEquals(Collections.singletonMap("instance", Footprint.object(1, 2)).get("instance"),
+                Footprint.ofArrayList(0).getParts().get("instance"));
+    }
+}
@@ -0,0 +1,64 @@
+package net.team33.basics.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class IndexStatisticsTest {
+
+    private static final double DELTA = 1.0E-9;
+
+    // "Aa", "BB" and "C#" share the same hash code ...
+    private static final List<String> ELEMENTS = Arrays.asList(
+            "a", "b", "c", "Aa", "BB", "C#", "AaAa", "AaBB", "BBAa", "BBBB", "e");
+
+    @Test
+    public final void testOf_empty() {
+        final IndexStatistics subject = IndexStatistics.of(Collections.emptyList());
+        assertEquals(0, subject.getSize());
+        assertEquals(0, subject.getDistinctHashes());
+        assertEquals(0, subject.getLongestRun());
+        assertEquals(0.0, subject.getAverageRun(), DELTA);
+        assertEquals(0.0, subject.getExpectedProbes(), DELTA);
+        assertEquals(0, subject.getSearchDepth());
+        assertArrayEquals(new int[0], subject.getRunHistogram());
+    }
+
+    @Test
+    public final void testOf() {
+        final IndexStatistics subject = IndexStatistics.of(ELEMENTS);
+        assertEquals(11, subject.getSize());
+        assertEquals(6, subject.getDistinctHashes());
+        assertEquals(4, subject.getLongestRun());
+        assertEquals(11.0 / 6.0, subject.getAverageRun(), DELTA);
+        assertEquals(4, subject.getSearchDepth());
+        // runs: 1, 1, 1, 1, 3, 4 -> probes: 1 + 1 + 1 + 1 + (1+2+3) + (1+2+3+4) = 20 ...
+        assertEquals(20.0 / 11.0, subject.getExpectedProbes(), DELTA);
+        // runs of length 1: 4, 2..3: 1, 4..7: 1 ...
+        assertArrayEquals(new int[]{4, 1, 1}, subject.getRunHistogram());
+    }
+
+    @Test
+    public final void testStatistics() {
+        final IndexStatistics expected = IndexStatistics.of(ELEMENTS);
+        assertEquals(expected.toString(), new Index(ELEMENTS).statistics().toString());
+        assertEquals(expected.toString(), FinalIndexList.from(ELEMENTS).statistics().toString());
+        assertEquals(expected.toString(), FinalSet.from(ELEMENTS).statistics().toString());
+        assertEquals(expected.toString(), FinalSet.deferred(ELEMENTS).statistics().toString());
+    }
+
+    @Test
+    public final void testStatistics_duplicates() {
+        final List<String> elements = new ArrayList<>(ELEMENTS);
+        elements.addAll(ELEMENTS);
+        assertEquals(22, new Index(elements).statistics().getSize());
+        assertEquals(8, FinalIndexList.from(elements).statistics().getLongestRun());
+        assertEquals(4, FinalSet.from(elements).statistics().getLongestRun());
+    }
+}
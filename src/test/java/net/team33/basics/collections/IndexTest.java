@@ -3,6 +3,7 @@ package net.team33.basics.collections;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,15 @@ public class IndexTest {
         assertFalse("Set of <null> should not contain 0", IndexList.from((Integer) null).contains(0));
     }
 
+    @Test
+    public final void testLast_collisionAtFirstEntry() {
+        // "Aa" and "BB" share the same hash code, which is the lowest one in the index ...
+        final Index index = new Index(Arrays.asList("zz", "Aa"));
+        assertEquals(-1, index.last("BB"));
+        assertFalse(index.contains("BB"));
+        assertEquals(1, index.last("Aa"));
+    }
+
     @Test
     public final void testIndexOf() {
         final Index index = new Index(ELEMENTS);
@@ -1,8 +1,5 @@
 package net.team33.basics.collections;
 
-import com.google.common.base.Function;
-import org.junit.Test;
-
 import java.util.AbstractList;
 import java.util.AbstractSet;
 import java.util.ArrayList;
@@ -10,20 +7,19 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
-import java.util.TreeSet;
 
 import static java.util.Arrays.asList;
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.fail;
 
-@SuppressWarnings({"SuspiciousMethodCalls", "JUnitTestClassNamingConvention",
-        "OverloadedMethodsWithSameNumberOfParameters", "ClassWithTooManyFields", "ClassWithTooManyMethods"})
+/**
+ * Supplies test data and {@link Index} based collections as fixtures for {@link IndexTest}.
+ * <p/>
+ * Timing of collections is measured by the benchmarks module (team33-basics-benchmarks).
+ */
+@SuppressWarnings("UtilityClass")
 public class IndexTrial {
 
     static final char[] CHARS;
@@ -39,78 +35,6 @@ public class IndexTrial {
         SAMPLES = newSamples(random, ELEMENTS, 100);
     }
 
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_00
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return input;
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_01
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return new ArrayList<>(input);
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_02
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return new LinkedList<>(input);
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_03
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return IndexList.from(input);
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_04
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return IndexSet.from(input);
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_05
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return new HashSet<>(input);
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_06
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return new LinkedHashSet<>(input);
-        }
-    };
-
-    @SuppressWarnings("AnonymousInnerClass")
-    private static final Function<List<String>, Collection<String>> CREATE_07
-            = new Function<List<String>, Collection<String>>() {
-        @Override
-        public Collection<String> apply(final List<String> input) {
-            return new TreeSet<>(input);
-        }
-    };
-
     private static Set<Object> newSamples(final Random random, final List<String> elements, final int size) {
         final Set<Object> result = new HashSet<>(size);
         result.addAll(asList(0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE));
@@ -147,169 +71,6 @@ public class IndexTrial {
         return new String(chars);
     }
 
-    private static long timeContains(final Collection<?> subject) {
-        final long time0 = System.nanoTime();
-        for (final Object sample : SAMPLES) {
-            Collecting.contains(subject, sample);
-        }
-        final long timeX = System.nanoTime();
-        return timeX - time0;
-    }
-
-    private static int count(final List<String> elements, final Object sample) {
-        final int index = elements.indexOf(sample);
-        if (0 > index) {
-            return 0;
-        } else {
-            return 1 + count(elements.subList(index + 1, elements.size()), sample);
-        }
-    }
-
-    private static int count(final Iterable<String> elements, final int hashCode) {
-        int result = 0;
-        for (final String element : elements) {
-            if (hashCode == Objects.hashCode(element)) {
-                result += 1;
-            }
-        }
-        return result;
-    }
-
-    private static <E> long timeCreate(
-            final List<E> elements, final Function<List<E>, Collection<E>> create) {
-        final long time0 = System.nanoTime();
-        create.apply(elements);
-        final long timeX = System.nanoTime();
-        return timeX - time0;
-    }
-
-    @SuppressWarnings({"resource", "UseOfSystemOutOrSystemErr"})
-    @Test
-    public final void statistics() {
-        final StringBuilder lines = new StringBuilder(0);
-        lines.append(String.format(
-                "SAMPLES.size() = %d%n",
-                SAMPLES.size()));
-        for (final Object sample : SAMPLES) {
-            final int hashCode = Objects.hashCode(sample);
-            lines.append(String.format(
-                    "sample <%s>, hash <%d>, value count <%d>, hash count <%d>%n",
-                    sample, hashCode, count(ELEMENTS, sample), count(ELEMENTS, hashCode)));
-        }
-        fail(lines.toString());
-    }
-
-    @Test
-    public final void testCreate_00_byElements() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_00)
-        );
-    }
-
-    @Test
-    public final void testContains_00_byElements() {
-        assertEquals("subject.size() == " + ELEMENTS.size(), 0, timeContains(ELEMENTS));
-    }
-
-    @Test
-    public final void testCreate_01_byArrayList() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_01)
-        );
-    }
-
-    @Test
-    public final void testContains_01_byArrayList() {
-        final ArrayList<String> subject = new ArrayList<>(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
-    @Test
-    public final void testCreate_02_byLinkedList() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_02)
-        );
-    }
-
-    @Test
-    public final void testContains_02_byLinkedList() {
-        final LinkedList<String> subject = new LinkedList<>(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
-    @Test
-    public final void testCreate_03_byIndexList() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_03)
-        );
-    }
-
-    @Test
-    public final void testContains_03_byIndexList() {
-        final IndexList<String> subject = IndexList.from(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
-    @Test
-    public final void testCreate_04_byIndexSet() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_04)
-        );
-    }
-
-    @Test
-    public final void testContains_04_byIndexSet() {
-        final IndexSet<String> subject = IndexSet.from(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
-    @Test
-    public final void testCreate_05_byHashSet() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_05)
-        );
-    }
-
-    @Test
-    public final void testContains_05_byHashSet() {
-        final HashSet<String> subject = new HashSet<>(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
-    @Test
-    public final void testCreate_06_byLinkedHashSet() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_06)
-        );
-    }
-
-    @Test
-    public final void testContains_06_byLinkedHashSet() {
-        final HashSet<String> subject = new LinkedHashSet<>(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
-    @Test
-    public final void testCreate_07_byTreeSet() {
-        assertEquals(
-                "subject.size() == " + ELEMENTS.size(),
-                0L, timeCreate(ELEMENTS, CREATE_07)
-        );
-    }
-
-    @Test
-    public final void testContains_07_byTreeSet() {
-        final TreeSet<String> subject = new TreeSet<>(ELEMENTS);
-        assertEquals("subject.size() == " + subject.size(), 0, timeContains(subject));
-    }
-
     @SuppressWarnings({"AssignmentToCollectionOrArrayFieldFromParameter", "RefusedBequest"})
     static class IndexList<E> extends AbstractList<E> {
 
@@ -4,10 +4,15 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
 
 @SuppressWarnings("AssertEqualsBetweenInconvertibleTypes")
 public class ListerTest {
@@ -69,4 +74,166 @@ public class ListerTest {
                         .subject
         );
     }
+
+    @Test
+    public final void testBatch() {
+        Assert.assertEquals(
+                asList(INT_277, INT_278, INT_279, INT_280),
+                Lister.apply(new ArrayList<>(asList(INT_280, INT_277, INT_279)))
+                        .batch()
+                        .add(2, INT_278)
+                        .remove(0)
+                        .addAlt(3, INT_280, INT_280)
+                        .set(4, INT_277)
+                        .remove(4)
+                        .apply()
+                        .subject
+        );
+    }
+
+    @Test
+    public final void testBatch_random() {
+        final Random random = new Random(INT_278);
+        final List<Integer> expected = new ArrayList<>(0);
+        for (int index = 0; index < 1000; ++index) {
+            expected.add(index);
+        }
+        final Lister<Integer, List<Integer>, ?> lister = Lister.apply((List<Integer>) new LinkedList<>(expected));
+        final Lister.Batch<Integer, List<Integer>, ?> batch = lister.batch();
+        for (int count = 0; count < 10000; ++count) {
+            final int operation = random.nextInt(4);
+            if ((0 == operation) || expected.isEmpty()) {
+                final int index = random.nextInt(expected.size() + 1);
+                expected.add(index, -count);
+                batch.add(index, -count);
+            } else if (1 == operation) {
+                final int index = random.nextInt(expected.size() + 1);
+                expected.addAll(index, asList(count, -count));
+                batch.addAll(index, asList(count, -count));
+            } else if (2 == operation) {
+                final int index = random.nextInt(expected.size());
+                expected.remove(index);
+                batch.remove(index);
+            } else {
+                final int index = random.nextInt(expected.size());
+                expected.set(index, count);
+                batch.set(index, count);
+            }
+            Assert.assertEquals(expected.size(), batch.size());
+        }
+        Assert.assertEquals(expected, batch.apply().subject);
+        Assert.assertEquals(asList(INT_277), batch.add(0, INT_277).apply().subject.subList(0, 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testBatch_outOfBounds() {
+        Lister.apply(new ArrayList<>(asList(INT_277, INT_278)))
+                .batch()
+                .remove(1)
+                .remove(1);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public final void testBatch_concurrentModification() {
+        final Lister<Integer, ArrayList<Integer>, ?> lister = Lister.apply(new ArrayList<>(asList(INT_277, INT_278)));
+        final Lister.Batch<Integer, ArrayList<Integer>, ?> batch = lister.batch().add(0, INT_280);
+        lister.add(INT_279);
+        batch.apply();
+    }
+
+    @Test
+    public final void testBatch_rejected() {
+        final Lister<Integer, List<Integer>, ?> lister =
+                Lister.apply((List<Integer>) new NonNullList<>(asList(INT_277, INT_278, INT_279)));
+        final Lister.Batch<Integer, List<Integer>, ?> batch = lister.batch().add(1, INT_280).add(3, null);
+        try {
+            batch.apply();
+            Assert.fail("expected to fail");
+        } catch (final NullPointerException ignored) {
+            Assert.assertEquals(asList(INT_277, INT_278, INT_279), lister.subject);
+        }
+        Assert.assertEquals(asList(INT_277, INT_280, INT_278, INT_279), batch.remove(3).apply().subject);
+    }
+
+    @Test
+    public final void testBatch_notApplied() {
+        final Lister<Integer, List<Integer>, ?> lister =
+                Lister.apply((List<Integer>) new ArrayList<>(asList(INT_277, INT_278)));
+        final Lister.Batch<Integer, List<Integer>, ?> batch = lister.batch().add(0, INT_280).remove(1);
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(asList(INT_277, INT_278), lister.subject);
+        Assert.assertEquals(asList(INT_277, INT_278, INT_279), lister.add(INT_279).subject);
+    }
+
+    @Test
+    public final void testCursor() {
+        Assert.assertEquals(
+                asList(INT_277, INT_278, INT_279, INT_280),
+                Lister.apply(new LinkedList<>(asList(INT_280, INT_277, INT_279, INT_278)))
+                        .cursor()
+                        .remove()
+                        .skip(1)
+                        .add(INT_278)
+                        .moveTo(3)
+                        .set(INT_280)
+                        .done()
+                        .subject
+        );
+    }
+
+    @Test
+    public final void testCursor_random() {
+        final Random random = new Random(INT_279);
+        final List<Integer> expected = new ArrayList<>(0);
+        final Lister.Cursor<Integer, LinkedList<Integer>, ?> cursor = Lister.apply(new LinkedList<Integer>()).cursor();
+        for (int count = 0; count < 10000; ++count) {
+            final int index = random.nextInt(expected.size() + 1);
+            cursor.moveTo(index);
+            Assert.assertEquals(index, cursor.index());
+            final int operation = random.nextInt(4);
+            if ((index == expected.size()) || (0 == operation)) {
+                expected.add(index, count);
+                cursor.add(count);
+            } else if (1 == operation) {
+                expected.addAll(index, asList(count, -count));
+                cursor.addAlt(count, -count);
+            } else if (2 == operation) {
+                expected.remove(index);
+                cursor.remove();
+            } else {
+                expected.set(index, -count);
+                cursor.set(-count);
+            }
+        }
+        Assert.assertEquals(expected, cursor.done().subject);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testCursor_outOfBounds() {
+        Lister.apply(new LinkedList<>(asList(INT_277, INT_278)))
+                .cursor()
+                .moveTo(2)
+                .remove();
+    }
+
+    private static class NonNullList<E> extends ArrayList<E> {
+
+        private NonNullList(final Collection<? extends E> origin) {
+            super(origin);
+        }
+
+        @Override
+        public final boolean add(final E element) {
+            return super.add(requireNonNull(element));
+        }
+
+        @Override
+        public final boolean addAll(final Collection<? extends E> elements) {
+            // adds one by one, so a rejected element leaves the preceding ones added ...
+            for (final E element : elements) {
+                add(element);
+            }
+            return !elements.isEmpty();
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package net.team33.basics.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LookupCountersTest {
+
+    private static final double DELTA = 1.0E-9;
+
+    // "Aa", "BB", "C#" and "D\u0004" share the same hash code ...
+    private static final List<String> ELEMENTS = Arrays.asList("a", "Aa", "BB", "C#", "zz");
+    private static final String COLLIDING = "D\u0004";
+
+    private static void assertCounted(final LookupCounters counters) {
+        assertEquals(5, counters.getLookups());
+        assertEquals(3, counters.getHits());
+        assertEquals(2, counters.getMisses());
+        // 1 + 2 + 3 probes to find the colliding elements, 3 to miss another colliding one, 0 to miss "b" ...
+        assertEquals(9, counters.getProbes());
+        assertEquals(6, counters.getCollisions());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testNegativeSampling() {
+        new LookupCounters(-1);
+    }
+
+    @Test
+    public final void testFinalSet() {
+        final LookupCounters counters = new LookupCounters();
+        final FinalSet<String> subject = FinalSet.monitored(ELEMENTS, FinalSet.Representation.SORTED_HASH, counters);
+        assertTrue(subject.contains("Aa"));
+        assertTrue(subject.contains("BB"));
+        assertTrue(subject.contains("C#"));
+        assertFalse(subject.contains(COLLIDING));
+        assertFalse(subject.contains("b"));
+        assertCounted(counters);
+    }
+
+    @Test
+    public final void testFinalSet_enumBits() {
+        final LookupCounters counters = new LookupCounters();
+        final FinalSet<TimeUnit> subject = FinalSet.monitored(
+                Arrays.asList(TimeUnit.SECONDS, TimeUnit.DAYS), FinalSet.Representation.ENUM_BITS, counters);
+        assertTrue(subject.contains(TimeUnit.SECONDS));
+        assertTrue(subject.contains(TimeUnit.DAYS));
+        assertFalse(subject.contains(TimeUnit.HOURS));
+        assertFalse(subject.contains("DAYS"));
+        assertEquals(2, counters.getHits());
+        assertEquals(2, counters.getMisses());
+        assertEquals(0, counters.getProbes());
+        assertEquals(0, counters.getCollisions());
+    }
+
+    @Test
+    public final void testFinalIndexList() {
+        final LookupCounters counters = new LookupCounters();
+        final FinalIndexList<String> subject = FinalIndexList.monitored(ELEMENTS, counters);
+        assertEquals(1, subject.indexOf("Aa"));
+        assertEquals(2, subject.indexOf("BB"));
+        assertEquals(3, subject.indexOf("C#"));
+        assertEquals(-1, subject.indexOf(COLLIDING));
+        assertEquals(-1, subject.indexOf("b"));
+        assertCounted(counters);
+    }
+
+    @Test
+    public final void testIndex() {
+        final LookupCounters counters = new LookupCounters();
+        final Index subject = new Index(ELEMENTS, counters);
+        assertEquals(1, subject.first("Aa"));
+        assertEquals(2, subject.first("BB"));
+        assertEquals(3, subject.first("C#"));
+        assertEquals(-1, subject.first(COLLIDING));
+        assertEquals(-1, subject.first("b"));
+        assertCounted(counters);
+    }
+
+    @Test
+    public final void testSampling() {
+        final LookupCounters counters = new LookupCounters(1);
+        final FinalSet<String> subject = FinalSet.monitored(ELEMENTS, counters);
+        for (final String element : ELEMENTS) {
+            assertTrue(subject.contains(element));
+        }
+        assertEquals(ELEMENTS.size(), counters.getSampledLookups());
+        assertTrue(0.0 <= counters.getAverageNanos());
+    }
+
+    @Test
+    public final void testNotSampled() {
+        final LookupCounters counters = new LookupCounters();
+        assertEquals(LookupMetrics.NOT_SAMPLED, counters.start());
+        counters.onLookup(true, 1, LookupMetrics.NOT_SAMPLED);
+        assertEquals(0, counters.getSampledLookups());
+        assertEquals(0.0, counters.getAverageNanos(), DELTA);
+    }
+}
@@ -0,0 +1,124 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MappedListTest {
+
+    private static final FinalList<String> ORIGIN = FinalList.from("1", "22", "333", null, "55555");
+
+    @Test
+    public final void testFrom() {
+        final Counting conversion = new Counting();
+        final MappedList<String, Integer> subject = MappedList.from(ORIGIN, conversion);
+        assertFalse(subject.isMemoizing());
+        assertEquals(0, conversion.count.get());
+
+        assertEquals(Integer.valueOf(3), subject.get(2));
+        assertEquals(Integer.valueOf(3), subject.get(2));
+        assertEquals(2, conversion.count.get());
+    }
+
+    @Test
+    public final void testMemoizing() {
+        final Counting conversion = new Counting();
+        final MappedList<String, Integer> subject = MappedList.memoizing(ORIGIN, conversion);
+        assertTrue(subject.isMemoizing());
+        assertEquals(0, conversion.count.get());
+
+        assertEquals(Integer.valueOf(3), subject.get(2));
+        assertEquals(Integer.valueOf(3), subject.get(2));
+        assertNull(subject.get(3));
+        assertNull(subject.get(3));
+        assertEquals(2, conversion.count.get());
+
+        assertEquals(asList(1, 2, 3, null, 5), new ArrayList<>(subject));
+        assertEquals(ORIGIN.size(), conversion.count.get());
+    }
+
+    @Test
+    public final void testMemoizing_concurrent() throws InterruptedException {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger count = new AtomicInteger(0);
+        final MappedList<String, Object> subject = MappedList.memoizing(ORIGIN, new Function<String, Object>() {
+            @Override
+            public Object apply(final String input) {
+                count.incrementAndGet();
+                entered.countDown();
+                Uninterruptibles.awaitUninterruptibly(release);
+                return new Object();
+            }
+        });
+
+        final List<Object> results = Collections.synchronizedList(new ArrayList<>(2));
+        final List<Thread> threads = new ArrayList<>(2);
+        for (int index = 0; index < 2; ++index) {
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    results.add(subject.get(0));
+                }
+            }));
+        }
+        threads.get(0).start();
+        entered.await();
+        threads.get(1).start();
+        Thread.sleep(50);
+        release.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, count.get());
+        assertEquals(2, results.size());
+        assertSame(results.get(0), results.get(1));
+    }
+
+    @Test
+    public final void testEquals() {
+        assertEquals(asList(1, 2, 3, null, 5), MappedList.from(ORIGIN, new Counting()));
+        assertEquals(MappedList.from(ORIGIN, new Counting()), MappedList.memoizing(ORIGIN, new Counting()));
+    }
+
+    @Test
+    public final void testSubList() {
+        final MappedList<String, Integer> subject = MappedList.memoizing(ORIGIN, new Counting()).subList(1, 3);
+        assertTrue(subject.isMemoizing());
+        assertEquals(asList(2, 3), subject);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testAdd() {
+        MappedList.from(ORIGIN, new Counting()).add(278);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGet_outOfBounds() {
+        MappedList.memoizing(ORIGIN, new Counting()).get(ORIGIN.size());
+    }
+
+    private static class Counting implements Function<String, Integer> {
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        public final Integer apply(final String input) {
+            count.incrementAndGet();
+            return (null == input) ? null : input.length();
+        }
+    }
+}
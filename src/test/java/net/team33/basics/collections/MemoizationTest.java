@@ -0,0 +1,62 @@
+package net.team33.basics.collections;
+
+import com.google.common.base.Function;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class MemoizationTest {
+
+    private static final List<String> INPUTS = asList("a", "b", "a", null, "c", "a", null, "b", "a");
+    private static final List<String> EXPECTED = asList("A", "B", "A", null, "C", "A", null, "B", "A");
+
+    private static int count(final Memoization memoization) {
+        final Counting conversion = new Counting();
+        assertEquals(EXPECTED, Collecting.addAll(new ArrayList<String>(0), conversion, memoization, INPUTS));
+        return conversion.count;
+    }
+
+    @Test
+    public final void testUnbounded() {
+        assertEquals(4, count(Memoization.unbounded()));
+    }
+
+    @Test
+    public final void testLru() {
+        // misses: a, b, null, c (evicts b), b (evicts c)
+        assertEquals(5, count(Memoization.lru(3)));
+    }
+
+    @Test
+    public final void testFifo() {
+        // misses: a, b, null, c (evicts a), a (evicts b), b (evicts null)
+        assertEquals(6, count(Memoization.fifo(3)));
+    }
+
+    @Test
+    public final void testApply_freshCache() {
+        final Memoization memoization = Memoization.unbounded();
+        assertEquals(4, count(memoization));
+        assertEquals(4, count(memoization));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testLru_illegalLimit() {
+        Memoization.lru(0);
+    }
+
+    private static class Counting implements Function<String, String> {
+        private int count = 0;
+
+        @SuppressWarnings("ReturnOfNull")
+        @Override
+        public final String apply(final String input) {
+            count += 1;
+            return (null == input) ? null : input.toUpperCase();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package net.team33.basics.lazy;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncInitialTest {
+
+    @Test
+    public final void testGet() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Subject subject = new Subject(executor, new CountDownLatch(0));
+            assertFalse(subject.isComputed());
+            assertEquals("1", subject.get());
+            assertEquals("1", subject.get());
+            assertTrue(subject.isComputed());
+            assertEquals(1, subject.count.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testFuture_callbacks() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch release = new CountDownLatch(1);
+            final Subject subject = new Subject(executor, release);
+            final List<String> results = new ArrayList<>(0);
+            final CountDownLatch done = new CountDownLatch(100);
+            for (int index = 0; index < 100; ++index) {
+                Futures.addCallback(subject.future(), new FutureCallback<String>() {
+                    @Override
+                    public void onSuccess(final String result) {
+                        synchronized (results) {
+                            results.add(result);
+                        }
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable caught) {
+                        done.countDown();
+                    }
+                }, directExecutor());
+            }
+            assertFalse(subject.isComputed());
+            release.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(100, results.size());
+            for (final String result : results) {
+                assertEquals("1", result);
+            }
+            assertEquals(1, subject.count.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testFuture_cancel() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch release = new CountDownLatch(1);
+            final Subject subject = new Subject(executor, release);
+            final ListenableFuture<String> future = subject.future();
+            assertTrue(future.cancel(true));
+            release.countDown();
+            assertEquals("1", subject.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testGet_failure() {
+        final Subject subject = new Subject(directExecutor(), new CountDownLatch(0));
+        subject.failing = true;
+        try {
+            subject.get();
+            fail("should fail");
+        } catch (final IllegalStateException caught) {
+            assertEquals("failing #1", caught.getMessage());
+        }
+        assertFalse(subject.isComputed());
+
+        subject.failing = false;
+        assertEquals("2", subject.get());
+        assertTrue(subject.isComputed());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public final void testFuture_rejected() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        new Subject(executor, new CountDownLatch(0)).future();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public final void testGet_recursive() {
+        new AsyncInitial<String>(directExecutor()) {
+            @Override
+            protected String getFinal() {
+                return "recursive: " + get();
+            }
+        }.get();
+    }
+
+    private static class Subject extends AsyncInitial<String> {
+        private final AtomicInteger count = new AtomicInteger(0);
+        private final CountDownLatch release;
+        private volatile boolean failing = false;
+
+        private Subject(final Executor executor, final CountDownLatch release) {
+            super(executor);
+            this.release = release;
+        }
+
+        @Override
+        protected final String getFinal() {
+            try {
+                release.await();
+            } catch (final InterruptedException caught) {
+                throw new IllegalStateException(caught);
+            }
+            final int result = count.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("failing #" + result);
+            }
+            return String.valueOf(result);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package net.team33.basics.lazy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class AtomicInitialTest {
+
+    private static final int THREADS = 32;
+
+    @Test
+    public final void testGet() {
+        final Counting subject = new Counting();
+        assertEquals(0, subject.count.get());
+        assertEquals("1", subject.get());
+        assertEquals("1", subject.get());
+        assertEquals(1, subject.count.get());
+    }
+
+    @Test
+    public final void testGet_concurrent() throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final Counting subject = new Counting() {
+            @Override
+            protected String getFinal() {
+                try {
+                    Thread.sleep(50);
+                } catch (final InterruptedException caught) {
+                    throw new IllegalStateException(caught);
+                }
+                return super.getFinal();
+            }
+        };
+        final List<String> results = new ArrayList<>(THREADS);
+        final List<Thread> threads = new ArrayList<>(THREADS);
+        for (int index = 0; index < THREADS; ++index) {
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException caught) {
+                        throw new IllegalStateException(caught);
+                    }
+                    final String result = subject.get();
+                    synchronized (results) {
+                        results.add(result);
+                    }
+                }
+            });
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(THREADS, results.size());
+        for (final String result : results) {
+            assertSame(results.get(0), result);
+        }
+        assertEquals(1, subject.count.get());
+    }
+
+    @Test
+    public final void testGet_failure() {
+        final AtomicInteger attempts = new AtomicInteger(0);
+        final AtomicInitial<String> subject = new AtomicInitial<String>() {
+            @Override
+            protected String getFinal() {
+                if (1 == attempts.incrementAndGet()) {
+                    throw new IllegalArgumentException("first attempt");
+                }
+                return "second attempt";
+            }
+        };
+        try {
+            fail("should fail but was " + subject.get());
+        } catch (final IllegalArgumentException ignored) {
+            // as expected
+        }
+        assertEquals("second attempt", subject.get());
+        assertEquals("second attempt", subject.get());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public final void testGet_recursive() {
+        new AtomicInitial<String>() {
+            @Override
+            protected String getFinal() {
+                return get();
+            }
+        }.get();
+    }
+
+    private static class Counting extends AtomicInitial<String> {
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        protected String getFinal() {
+            return String.valueOf(count.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Function;
+import com.google.common.cache.Weigher;
+import org.junit.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CacheTest {
+
+    private final ConcurrentMap<Integer, AtomicInteger> counts = new ConcurrentHashMap<>(0);
+    private final Function<Integer, String> loader = new Function<Integer, String>() {
+        @Override
+        public String apply(final Integer input) {
+            counts.putIfAbsent(input, new AtomicInteger(0));
+            counts.get(input).incrementAndGet();
+            if (0 > input) {
+                throw new IllegalArgumentException("negative: " + input);
+            }
+            return (0 == input) ? null : ("#" + input);
+        }
+    };
+
+    private int count(final int key) {
+        final AtomicInteger result = counts.get(key);
+        return (null == result) ? 0 : result.get();
+    }
+
+    @Test
+    public final void testGet() {
+        final Cache<Integer, String> subject = Cache.bySize(10, loader);
+        assertEquals("#1", subject.get(1));
+        assertEquals("#1", subject.apply(1));
+        assertNull(subject.get(0));
+        assertNull(subject.get(0));
+        assertEquals(1, count(1));
+        assertEquals(1, count(0));
+        assertEquals(2, subject.size());
+        assertEquals(2, subject.weight());
+    }
+
+    @Test
+    public final void testBySize_clock() {
+        final Cache<Integer, String> subject = Cache.bySize(3, loader);
+        subject.get(1);
+        subject.get(2);
+        subject.get(3);
+        subject.get(1); // 1 is referenced now
+
+        subject.get(4); // spares 1, evicts 2
+        assertTrue(subject.isCached(1));
+        assertFalse(subject.isCached(2));
+        assertTrue(subject.isCached(3));
+        assertTrue(subject.isCached(4));
+        assertEquals(3, subject.size());
+
+        subject.get(5); // evicts 3
+        assertFalse(subject.isCached(3));
+
+        subject.get(2);
+        assertEquals(2, count(2));
+        assertEquals(1, count(1));
+    }
+
+    @Test
+    public final void testByWeight() {
+        final Cache<Integer, String> subject = Cache.byWeight(10, new Weigher<Integer, String>() {
+            @Override
+            public int weigh(final Integer key, final String value) {
+                return key;
+            }
+        }, loader);
+        subject.get(3);
+        subject.get(4);
+        subject.get(2);
+        assertEquals(9, subject.weight());
+
+        subject.get(5); // evicts 3 and 4
+        assertEquals(7, subject.weight());
+        assertFalse(subject.isCached(3));
+        assertFalse(subject.isCached(4));
+
+        assertEquals("#11", subject.get(11)); // outweighs the limit
+        assertFalse(subject.isCached(11));
+        assertEquals(0, subject.weight());
+    }
+
+    @Test
+    public final void testGet_failure() {
+        final Cache<Integer, String> subject = Cache.bySize(3, loader);
+        for (int attempt = 1; attempt <= 2; ++attempt) {
+            try {
+                subject.get(-1);
+                fail("should fail");
+            } catch (final IllegalArgumentException caught) {
+                assertEquals(attempt, count(-1));
+            }
+        }
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    public final void testGet_concurrent() throws InterruptedException {
+        final Cache<Integer, String> subject = Cache.bySize(1000, loader);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[16];
+        for (int index = 0; index < threads.length; ++index) {
+            threads[index] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException caught) {
+                        throw new IllegalStateException(caught);
+                    }
+                    for (int key = 1; key <= 100; ++key) {
+                        assertEquals("#" + key, subject.get(key));
+                    }
+                }
+            });
+            threads[index].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, subject.size());
+        for (final AtomicInteger count : counts.values()) {
+            assertEquals(1, count.get());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testBySize_illegal() {
+        Cache.bySize(0, loader);
+    }
+}
@@ -0,0 +1,129 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyListTest {
+
+    private static final int SIZE = 1000;
+    private static final int THREADS = 16;
+
+    @Test
+    public final void testGet() {
+        final Counting function = new Counting();
+        final LazyList<String> subject = LazyList.from(SIZE, function);
+        assertEquals(SIZE, subject.size());
+        assertFalse(subject.isComputed(278));
+        assertEquals("278", subject.get(278));
+        assertEquals("278", subject.get(278));
+        assertTrue(subject.isComputed(278));
+        assertFalse(subject.isComputed(279));
+        assertEquals(1, function.counts.get(278));
+        assertEquals(0, function.counts.get(279));
+    }
+
+    @Test
+    public final void testGet_concurrent() throws InterruptedException {
+        final Counting function = new Counting();
+        final LazyList<String> subject = LazyList.from(SIZE, function);
+        final List<Thread> threads = new ArrayList<>(THREADS);
+        for (int index = 0; index < THREADS; ++index) {
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (final String element : subject) {
+                        assertEquals(element, subject.get(Integer.parseInt(element)));
+                    }
+                }
+            });
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        for (int index = 0; index < SIZE; ++index) {
+            assertEquals(1, function.counts.get(index));
+        }
+    }
+
+    @Test
+    public final void testFrom_suppliers() {
+        final List<Supplier<String>> suppliers = asList(
+                Suppliers.ofInstance("a"), Suppliers.<String>ofInstance(null), Suppliers.ofInstance("c"));
+        final LazyList<String> subject = LazyList.from(suppliers);
+        assertNull(subject.get(1));
+        assertTrue(subject.isComputed(1));
+        assertEquals(asList("a", null, "c"), subject);
+    }
+
+    @Test
+    public final void testSubList() {
+        final Counting function = new Counting();
+        final LazyList<String> subject = LazyList.from(SIZE, function);
+        final LazyList<String> subList = subject.subList(10, 20);
+        assertEquals(10, subList.size());
+        assertEquals("15", subList.get(5));
+        assertTrue(subject.isComputed(15));
+        assertEquals("15", subject.get(15));
+        assertEquals(1, function.counts.get(15));
+    }
+
+    @Test
+    public final void testGet_failure() {
+        final LazyList<String> subject = LazyList.from(1, new Function<Integer, String>() {
+            private int count = 0;
+
+            @Override
+            public String apply(final Integer input) {
+                count += 1;
+                if (1 == count) {
+                    throw new IllegalStateException("first attempt");
+                }
+                return "attempt " + count;
+            }
+        });
+        try {
+            fail("should fail but was " + subject.get(0));
+        } catch (final IllegalStateException ignored) {
+            // as expected
+        }
+        assertFalse(subject.isComputed(0));
+        assertEquals("attempt 2", subject.get(0));
+        assertEquals("attempt 2", subject.get(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGet_outOfBounds() {
+        LazyList.from(SIZE, new Counting()).subList(10, 20).get(10);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testSet() {
+        LazyList.from(SIZE, new Counting()).set(0, "0");
+    }
+
+    private static class Counting implements Function<Integer, String> {
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(SIZE);
+
+        @Override
+        public final String apply(final Integer input) {
+            counts.incrementAndGet(input);
+            return String.valueOf(input);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Function;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyMapTest {
+
+    private final ConcurrentMap<Integer, AtomicInteger> counts = new ConcurrentHashMap<>(0);
+    private final Function<Integer, String> loader = new Function<Integer, String>() {
+        @Override
+        public String apply(final Integer input) {
+            counts.putIfAbsent(input, new AtomicInteger(0));
+            counts.get(input).incrementAndGet();
+            if (0 > input) {
+                throw new IllegalArgumentException("negative: " + input);
+            }
+            return (0 == input) ? null : ("#" + input);
+        }
+    };
+
+    @Test
+    public final void testFixed() {
+        final LazyMap<Integer, String> subject = LazyMap.fixed(Arrays.asList(0, 1, 2, 3), loader);
+        assertTrue(subject.isFixed());
+        assertEquals(4, subject.size());
+        assertTrue(subject.containsKey(3));
+        assertFalse(subject.containsKey(4));
+        assertFalse(subject.isComputed(1));
+        assertTrue(counts.isEmpty());
+
+        assertEquals("#1", subject.get(1));
+        assertEquals("#1", subject.get(1));
+        assertNull(subject.get(0));
+        assertNull(subject.get(4));
+        assertTrue(subject.isComputed(1));
+        assertTrue(subject.isComputed(0));
+        assertFalse(subject.isComputed(2));
+        assertEquals(1, counts.get(1).get());
+        assertFalse(counts.containsKey(4));
+
+        final Map<Integer, String> expected = new HashMap<>(0);
+        expected.put(0, null);
+        expected.put(1, "#1");
+        expected.put(2, "#2");
+        expected.put(3, "#3");
+        assertEquals(expected, subject);
+        assertEquals(1, counts.get(1).get());
+    }
+
+    @Test
+    public final void testGrowing() {
+        final LazyMap<Integer, String> subject = LazyMap.growing(loader);
+        assertFalse(subject.isFixed());
+        assertTrue(subject.isEmpty());
+
+        assertEquals("#5", subject.get(5));
+        assertEquals("#7", subject.get(7));
+        assertEquals("#5", subject.get(5));
+        assertEquals(2, subject.size());
+        assertTrue(subject.containsKey(7));
+        assertFalse(subject.containsKey(6));
+        assertEquals(1, counts.get(5).get());
+
+        final Map<Integer, String> expected = new HashMap<>(0);
+        expected.put(5, "#5");
+        expected.put(7, "#7");
+        assertEquals(expected, subject);
+    }
+
+    @Test
+    public final void testGet_failure() {
+        final LazyMap<Integer, String> subject = LazyMap.growing(loader);
+        for (int attempt = 1; attempt <= 2; ++attempt) {
+            try {
+                subject.get(-1);
+                fail("should fail");
+            } catch (final IllegalArgumentException caught) {
+                assertEquals(attempt, counts.get(-1).get());
+            }
+        }
+        assertTrue(subject.isEmpty());
+    }
+
+    @Test
+    public final void testGet_concurrent() throws InterruptedException {
+        final LazyMap<Integer, String> subject = LazyMap.growing(loader);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[16];
+        for (int index = 0; index < threads.length; ++index) {
+            threads[index] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException caught) {
+                        throw new IllegalStateException(caught);
+                    }
+                    for (int key = 1; key <= 100; ++key) {
+                        assertEquals("#" + key, subject.get(key));
+                    }
+                }
+            });
+            threads[index].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, subject.size());
+        for (final AtomicInteger count : counts.values()) {
+            assertEquals(1, count.get());
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testPut() {
+        LazyMap.growing(loader).put(1, "1");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testClear() {
+        final LazyMap<Integer, String> subject = LazyMap.growing(loader);
+        subject.get(1);
+        subject.clear();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public final void testGet_recursive() {
+        final LazyMap<Integer, String>[] subject = new LazyMap[1];
+        subject[0] = LazyMap.growing(new Function<Integer, String>() {
+            @Override
+            public String apply(final Integer input) {
+                return subject[0].get(input);
+            }
+        });
+        subject[0].get(1);
+    }
+}
@@ -0,0 +1,150 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Ticker;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class RefreshingTest {
+
+    private static final long TIME_TO_LIVE = 1000;
+
+    @Test
+    public final void testGet_initial() {
+        final Subject subject = new Subject();
+        assertEquals(0, subject.count.get());
+        assertEquals("1", subject.get());
+        assertEquals("1", subject.get());
+        assertEquals(1, subject.count.get());
+        assertEquals(0, subject.executor.tasks.size());
+    }
+
+    @Test
+    public final void testGet_staleWhileRevalidate() {
+        final Subject subject = new Subject();
+        assertEquals("1", subject.get());
+
+        subject.ticker.time.addAndGet(TIME_TO_LIVE);
+        assertEquals("1", subject.get());
+        assertEquals("1", subject.get());
+        assertEquals(1, subject.executor.tasks.size());
+
+        subject.executor.runAll();
+        assertEquals("2", subject.get());
+        assertEquals(2, subject.count.get());
+        assertEquals(0, subject.executor.tasks.size());
+    }
+
+    @Test
+    public final void testGet_failingRefresh() {
+        final Subject subject = new Subject();
+        assertEquals("1", subject.get());
+
+        subject.failing = true;
+        subject.ticker.time.addAndGet(TIME_TO_LIVE);
+        assertEquals("1", subject.get());
+        subject.executor.runAll();
+        assertEquals("1", subject.get());
+        assertEquals(0, subject.executor.tasks.size());
+        assertEquals(Collections.singletonList("failing #2"), subject.failures);
+
+        subject.failing = false;
+        subject.ticker.time.addAndGet(TIME_TO_LIVE);
+        try {
+            subject.get();
+            fail("should fail");
+        } catch (final IllegalStateException caught) {
+            assertEquals("failing #2", caught.getMessage());
+        }
+        assertEquals(1, subject.executor.tasks.size());
+        subject.executor.runAll();
+        assertEquals("3", subject.get());
+    }
+
+    @Test
+    public final void testGet_rejected() {
+        final Subject subject = new Subject();
+        assertEquals("1", subject.get());
+
+        subject.executor.rejecting = true;
+        subject.ticker.time.addAndGet(TIME_TO_LIVE);
+        assertEquals("1", subject.get());
+
+        subject.executor.rejecting = false;
+        assertEquals("1", subject.get());
+        assertEquals(1, subject.executor.tasks.size());
+    }
+
+    private static class Subject extends Refreshing<String> {
+        private final AtomicInteger count;
+        private final FakeTicker ticker;
+        private final Queue executor;
+        private final List<String> failures = new ArrayList<>(0);
+        private volatile boolean failing = false;
+
+        private Subject() {
+            this(new FakeTicker(), new Queue());
+        }
+
+        private Subject(final FakeTicker ticker, final Queue executor) {
+            super(TIME_TO_LIVE, TimeUnit.NANOSECONDS, executor, ticker);
+            this.count = new AtomicInteger(0);
+            this.ticker = ticker;
+            this.executor = executor;
+        }
+
+        @Override
+        protected final String getFinal() {
+            final int result = count.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("failing #" + result);
+            }
+            return String.valueOf(result);
+        }
+
+        @Override
+        protected final void onRefreshFailure(final RuntimeException failure) {
+            failures.add(failure.getMessage());
+        }
+    }
+
+    private static class FakeTicker extends Ticker {
+        private final AtomicLong time = new AtomicLong(0);
+
+        @Override
+        public final long read() {
+            return time.get();
+        }
+    }
+
+    private static class Queue implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>(0);
+        private boolean rejecting = false;
+
+        @Override
+        public final void execute(final Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("rejecting");
+            }
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            final List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            for (final Runnable task : pending) {
+                task.run();
+            }
+        }
+    }
+}
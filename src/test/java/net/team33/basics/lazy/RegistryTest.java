@@ -0,0 +1,113 @@
+package net.team33.basics.lazy;
+
+import com.google.common.base.Supplier;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RegistryTest {
+
+    private final List<String> initialized = new ArrayList<>(0);
+
+    @Test
+    public final void testWarmUp() throws ExecutionException, InterruptedException {
+        final Value a = new Value("a");
+        final Value b = new Value("b");
+        final Value c = new Value("c");
+        final Value d = new Value("d");
+        final Registry registry = new Registry()
+                .enlist(d, b, c)
+                .enlist(b, a)
+                .enlist(c, a);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Map<Supplier<?>, Long> result = registry.warmUp(executor).get();
+            assertEquals(Arrays.<Supplier<?>>asList(b, c, d, a), new ArrayList<>(result.keySet()));
+            for (final Long nanos : result.values()) {
+                assertTrue(0 <= nanos);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(4, initialized.size());
+        assertEquals("a", initialized.get(0));
+        assertEquals("d", initialized.get(3));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public final void testWarmUp_cyclic() {
+        final Value a = new Value("a");
+        final Value b = new Value("b");
+        new Registry()
+                .enlist(a, b)
+                .enlist(b, a)
+                .warmUp(directExecutor());
+    }
+
+    @Test
+    public final void testWarmUp_cyclicInitializesNothing() {
+        final Value a = new Value("a");
+        final Value b = new Value("b");
+        final Value c = new Value("c");
+        final Registry registry = new Registry()
+                .enlist(c)
+                .enlist(a, c, b)
+                .enlist(b, a);
+        try {
+            registry.warmUp(directExecutor());
+            fail("should fail");
+        } catch (final IllegalStateException ignored) {
+            assertEquals(0, initialized.size());
+        }
+    }
+
+    @Test
+    public final void testWarmUp_failure() throws InterruptedException {
+        final Value a = new Value("a");
+        final Value b = new Value("b");
+        final Registry registry = new Registry()
+                .enlist(b, a)
+                .enlist(new AtomicInitial<String>() {
+                    @Override
+                    protected String getFinal() {
+                        throw new IllegalStateException("failing");
+                    }
+                }, a);
+        try {
+            registry.warmUp(directExecutor()).get();
+            fail("should fail");
+        } catch (final ExecutionException caught) {
+            assertEquals(IllegalStateException.class, caught.getCause().getClass());
+        }
+        assertEquals(Arrays.asList("a", "b"), initialized);
+    }
+
+    private class Value extends AtomicInitial<String> {
+        private final String name;
+
+        private Value(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        protected final String getFinal() {
+            synchronized (initialized) {
+                initialized.add(name);
+            }
+            return name;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package net.team33.basics.lazy;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class VersionedTest {
+
+    @Test
+    public final void testGet() {
+        final Subject subject = new Subject();
+        assertEquals(-1, subject.version());
+        assertFalse(subject.isValid());
+        assertEquals("1", subject.get());
+        assertEquals("1", subject.get());
+        assertEquals(0, subject.version());
+        assertTrue(subject.isValid());
+        assertEquals(1, subject.count.get());
+    }
+
+    @Test
+    public final void testInvalidate() {
+        final Subject subject = new Subject();
+        assertEquals("1", subject.get());
+        assertEquals(1, subject.invalidate());
+        assertEquals(2, subject.invalidate());
+        assertFalse(subject.isValid());
+        assertEquals(0, subject.version());
+
+        assertEquals("2", subject.get());
+        assertEquals("2", subject.get());
+        assertEquals(2, subject.version());
+        assertTrue(subject.isValid());
+        assertEquals(2, subject.count.get());
+    }
+
+    @Test
+    public final void testInvalidate_failure() {
+        final Subject subject = new Subject();
+        assertEquals("1", subject.get());
+        subject.invalidate();
+        subject.failing = true;
+        try {
+            subject.get();
+            fail("should fail");
+        } catch (final IllegalStateException caught) {
+            assertEquals("failing #2", caught.getMessage());
+        }
+        assertEquals(0, subject.version());
+
+        subject.failing = false;
+        assertEquals("3", subject.get());
+        assertTrue(subject.isValid());
+    }
+
+    @Test
+    public final void testGet_staleWhileRecomputing() throws InterruptedException {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Subject subject = new Subject() {
+            @Override
+            protected String compute(final int count) {
+                if (1 < count) {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (final InterruptedException caught) {
+                        throw new IllegalStateException(caught);
+                    }
+                }
+                return super.compute(count);
+            }
+        };
+        assertEquals("1", subject.get());
+        subject.invalidate();
+
+        final AtomicReference<String> recomputed = new AtomicReference<>();
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                recomputed.set(subject.get());
+            }
+        });
+        thread.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        // While recomputing, other callers don't wait and don't recompute ...
+        assertEquals("1", subject.get());
+        assertEquals("1", subject.get());
+
+        release.countDown();
+        thread.join();
+        assertEquals("2", recomputed.get());
+        assertEquals("2", subject.get());
+        assertEquals(2, subject.count.get());
+    }
+
+    private static class Subject extends Versioned<String> {
+        private final AtomicInteger count = new AtomicInteger(0);
+        private volatile boolean failing = false;
+
+        @Override
+        protected final String getFinal() {
+            return compute(count.incrementAndGet());
+        }
+
+        protected String compute(final int count) {
+            if (failing) {
+                throw new IllegalStateException("failing #" + count);
+            }
+            return String.valueOf(count);
+        }
+    }
+}
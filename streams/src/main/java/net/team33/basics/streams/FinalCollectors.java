@@ -0,0 +1,153 @@
+package net.team33.basics.streams;
+
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collector;
+
+/**
+ * Supplies {@link Collector}s to terminate a {@link java.util.stream.Stream} straight into a {@link FinalList} or
+ * a {@link FinalSet}.
+ * <p/>
+ * The elements are accumulated in chunks, so neither accumulating nor combining (in case of a parallel stream)
+ * ever copies elements that are already collected. Finishing a {@link FinalList} assembles the chunks into a single
+ * array that is handed over to the result, so the elements are copied exactly once in total.
+ * Finishing a {@link FinalSet} additionally requires to eliminate duplicates.
+ * <p/>
+ * Note: {@link Collector.Characteristics#IDENTITY_FINISH} can't apply, since the intermediate container
+ * necessarily is mutable while the result is not.
+ */
+public final class FinalCollectors {
+    private FinalCollectors() {
+    }
+
+    /**
+     * Supplies a {@link Collector} that accumulates the elements of a stream into a new {@link FinalList}
+     * (in encounter order).
+     */
+    public static <E> Collector<E, ?, FinalList<E>> toFinalList() {
+        return Collector.of(Chunks<E>::new, Chunks::add, Chunks::combine, FinalList::from);
+    }
+
+    /**
+     * Supplies a {@link Collector} that accumulates the elements of a stream into a new {@link FinalSet}
+     * (in encounter order, duplicates are omitted).
+     */
+    public static <E> Collector<E, ?, FinalSet<E>> toFinalSet() {
+        return Collector.of(Chunks<E>::new, Chunks::add, Chunks::combine, FinalSet::from);
+    }
+
+    /**
+     * Intermediate container, just sufficient to act as origin of a {@link FinalList} or {@link FinalSet}.
+     */
+    @SuppressWarnings("ClassNameSameAsAncestorName")
+    private static final class Chunks<E> extends AbstractCollection<E> {
+
+        private static final int FIRST_CAPACITY = 16;
+        private static final int MAX_CAPACITY = 1 << 16;
+
+        private final List<Chunk> chunks = new ArrayList<>(1);
+        private Chunk current = null;
+        private int size = 0;
+
+        @SuppressWarnings("RefusedBequest")
+        @Override
+        public boolean add(final E element) {
+            if ((null == current) || current.isFull()) {
+                current = new Chunk((null == current) ? FIRST_CAPACITY : nextCapacity(current));
+                chunks.add(current);
+            }
+            current.add(element);
+            size += 1;
+            return true;
+        }
+
+        private static int nextCapacity(final Chunk chunk) {
+            return Math.min(2 * chunk.capacity(), MAX_CAPACITY);
+        }
+
+        private Chunks<E> combine(final Chunks<E> other) {
+            if (0 < other.size) {
+                chunks.addAll(other.chunks);
+                current = other.current;
+                size += other.size;
+            }
+            return this;
+        }
+
+        @Override
+        public Object[] toArray() {
+            final Object[] result = new Object[size];
+            int position = 0;
+            for (final Chunk chunk : chunks) {
+                System.arraycopy(chunk.elements, 0, result, position, chunk.size);
+                position += chunk.size;
+            }
+            return result;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private final Iterator<Chunk> outer = chunks.iterator();
+                private Chunk chunk = null;
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while ((null == chunk) || (index >= chunk.size)) {
+                        if (outer.hasNext()) {
+                            chunk = outer.next();
+                            index = 0;
+                        } else {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public E next() {
+                    if (hasNext()) {
+                        //noinspection unchecked,ValueOfIncrementOrDecrementUsed
+                        return (E) chunk.elements[index++];
+                    } else {
+                        throw new NoSuchElementException();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class Chunk {
+        private final Object[] elements;
+        private int size = 0;
+
+        private Chunk(final int capacity) {
+            elements = new Object[capacity];
+        }
+
+        private int capacity() {
+            return elements.length;
+        }
+
+        private boolean isFull() {
+            return size == elements.length;
+        }
+
+        private void add(final Object element) {
+            //noinspection ValueOfIncrementOrDecrementUsed
+            elements[size++] = element;
+        }
+    }
+}
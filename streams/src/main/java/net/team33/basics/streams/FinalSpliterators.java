@@ -0,0 +1,131 @@
+package net.team33.basics.streams;
+
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Supplies {@link Spliterator}s and {@link Stream}s over a {@link FinalList} or a {@link FinalSet}.
+ * <p/>
+ * Since the library itself is bound to Java 7, its collections can't override {@code spliterator()} and will
+ * fall back to the default implementation of the running JRE, which (at least in Java 8) splits poorly.
+ * The {@link Spliterator}s supplied here are {@link Spliterator#SIZED SIZED}, {@link Spliterator#SUBSIZED SUBSIZED},
+ * {@link Spliterator#IMMUTABLE IMMUTABLE} and {@link Spliterator#ORDERED ORDERED}, so a parallel stream splits
+ * them evenly.
+ */
+public final class FinalSpliterators {
+
+    private static final int CHARACTERISTICS =
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.ORDERED;
+
+    private FinalSpliterators() {
+    }
+
+    /**
+     * Supplies a {@link Spliterator} over a given {@link FinalList}.
+     */
+    public static <E> Spliterator<E> spliterator(final FinalList<E> subject) {
+        return new ListSpliterator<>(subject, 0, subject.size());
+    }
+
+    /**
+     * Supplies a {@link Spliterator} over a given {@link FinalSet}.
+     * <p/>
+     * It additionally is {@link Spliterator#DISTINCT DISTINCT}.
+     */
+    public static <E> Spliterator<E> spliterator(final FinalSet<E> subject) {
+        return Spliterators.spliterator(subject.toArray(), CHARACTERISTICS | Spliterator.DISTINCT);
+    }
+
+    /**
+     * Supplies a sequential {@link Stream} over a given {@link FinalList}.
+     */
+    public static <E> Stream<E> stream(final FinalList<E> subject) {
+        return StreamSupport.stream(spliterator(subject), false);
+    }
+
+    /**
+     * Supplies a possibly parallel {@link Stream} over a given {@link FinalList}.
+     */
+    public static <E> Stream<E> parallelStream(final FinalList<E> subject) {
+        return StreamSupport.stream(spliterator(subject), true);
+    }
+
+    /**
+     * Supplies a sequential {@link Stream} over a given {@link FinalSet}.
+     */
+    public static <E> Stream<E> stream(final FinalSet<E> subject) {
+        return StreamSupport.stream(spliterator(subject), false);
+    }
+
+    /**
+     * Supplies a possibly parallel {@link Stream} over a given {@link FinalSet}.
+     */
+    public static <E> Stream<E> parallelStream(final FinalSet<E> subject) {
+        return StreamSupport.stream(spliterator(subject), true);
+    }
+
+    /**
+     * Index based {@link Spliterator} over an immutable {@link List} with fast random access.
+     */
+    private static final class ListSpliterator<E> implements Spliterator<E> {
+        private final List<E> subject;
+        private final int fence;
+        private int index;
+
+        private ListSpliterator(final List<E> subject, final int origin, final int fence) {
+            this.subject = requireNonNull(subject);
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            if (index < fence) {
+                //noinspection ValueOfIncrementOrDecrementUsed
+                action.accept(subject.get(index++));
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            for (; index < fence; ++index) {
+                action.accept(subject.get(index));
+            }
+        }
+
+        @SuppressWarnings("ReturnOfNull")
+        @Override
+        public Spliterator<E> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (index < middle) {
+                final Spliterator<E> result = new ListSpliterator<>(subject, index, middle);
+                index = middle;
+                return result;
+            } else {
+                return null;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package net.team33.basics.streams;
+
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class FinalCollectorsTest {
+
+    private static final List<Integer> ORIGIN = IntStream.range(0, 100000)
+            .map(index -> index % 7919)
+            .boxed()
+            .collect(Collectors.toList());
+
+    @Test
+    public final void testToFinalList_empty() {
+        assertEquals(
+                FinalList.from(),
+                new ArrayList<>(0).stream().collect(FinalCollectors.toFinalList()));
+    }
+
+    @Test
+    public final void testToFinalList_sequential() {
+        assertEquals(
+                ORIGIN,
+                ORIGIN.stream().collect(FinalCollectors.toFinalList()));
+    }
+
+    @Test
+    public final void testToFinalList_parallel() {
+        assertEquals(
+                ORIGIN,
+                ORIGIN.parallelStream().collect(FinalCollectors.toFinalList()));
+    }
+
+    @Test
+    public final void testToFinalSet_sequential() {
+        final FinalSet<Integer> result = ORIGIN.stream().collect(FinalCollectors.toFinalSet());
+        assertEquals(new LinkedHashSet<>(ORIGIN), result);
+        assertEquals(new ArrayList<>(new LinkedHashSet<>(ORIGIN)), new ArrayList<>(result));
+    }
+
+    @Test
+    public final void testToFinalSet_parallel() {
+        final FinalSet<Integer> result = ORIGIN.parallelStream().collect(FinalCollectors.toFinalSet());
+        assertEquals(new ArrayList<>(new LinkedHashSet<>(ORIGIN)), new ArrayList<>(result));
+    }
+
+    @Test
+    public final void testToFinalSet_nulls() {
+        assertEquals(
+                FinalSet.from("a", null, "b"),
+                asList("a", null, "b", null, "a").stream().collect(FinalCollectors.toFinalSet()));
+    }
+}
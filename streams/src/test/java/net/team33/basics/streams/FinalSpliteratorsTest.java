@@ -0,0 +1,54 @@
+package net.team33.basics.streams;
+
+import net.team33.basics.collections.FinalList;
+import net.team33.basics.collections.FinalSet;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FinalSpliteratorsTest {
+
+    private static final int SIZE = 100001;
+    private static final FinalList<Integer> LIST = IntStream.range(0, SIZE)
+            .boxed()
+            .collect(FinalCollectors.toFinalList());
+    private static final FinalSet<Integer> SET = FinalSet.from(LIST);
+
+    @Test
+    public final void testCharacteristics() {
+        final int expected = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.ORDERED;
+        assertEquals(expected, FinalSpliterators.spliterator(LIST).characteristics());
+        assertEquals(expected | Spliterator.DISTINCT, FinalSpliterators.spliterator(SET).characteristics());
+    }
+
+    @Test
+    public final void testTrySplit() {
+        final Spliterator<Integer> subject = FinalSpliterators.spliterator(LIST);
+        final Spliterator<Integer> prefix = subject.trySplit();
+        assertEquals(SIZE / 2, prefix.estimateSize());
+        assertEquals(SIZE - (SIZE / 2), subject.estimateSize());
+        assertTrue(prefix.tryAdvance(element -> assertEquals(0, element.intValue())));
+        assertTrue(subject.tryAdvance(element -> assertEquals(SIZE / 2, element.intValue())));
+    }
+
+    @Test
+    public final void testStream() {
+        assertEquals(LIST, FinalSpliterators.stream(LIST).collect(Collectors.toList()));
+        assertEquals(LIST, FinalSpliterators.stream(SET).collect(Collectors.toList()));
+    }
+
+    @Test
+    public final void testParallelStream() {
+        final List<Integer> expected = LIST.stream().map(element -> element * 2).collect(Collectors.toList());
+        assertEquals(expected, FinalSpliterators.parallelStream(LIST).map(element -> element * 2)
+                .collect(FinalCollectors.toFinalList()));
+        assertEquals(expected, FinalSpliterators.parallelStream(SET).map(element -> element * 2)
+                .collect(FinalCollectors.toFinalList()));
+    }
+}